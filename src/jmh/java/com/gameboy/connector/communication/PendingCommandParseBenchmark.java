@@ -0,0 +1,86 @@
+package com.gameboy.connector.communication;
+
+import com.gameboy.connector.models.PendingCommand;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 명령어 폴링 응답 파싱 벤치마크
+ * - parse: 응답 전체를 JsonObject로 변환한 뒤 명령어 목록 생성 (하트비트 응답 경로)
+ * - parseStreaming: JsonReader로 읽으면서 명령어를 하나씩 전달 (pollAndExecuteCommands/롱폴링 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PendingCommandParseBenchmark {
+
+    @Param({"0", "1", "10", "100"})
+    public int commandCount;
+
+    private final Gson gson = new Gson();
+    private String response;
+
+    @Setup
+    public void setUp() {
+        JsonArray commands = new JsonArray();
+        for (int i = 0; i < commandCount; i++) {
+            JsonObject command = new JsonObject();
+            command.addProperty("id", 100_000 + i);
+            command.addProperty("player_name", "Player_" + (i % 50));
+            command.addProperty("command_string", "give <player> minecraft:diamond " + (i % 64 + 1));
+            commands.add(command);
+        }
+        JsonObject json = new JsonObject();
+        json.addProperty("status", "success");
+        json.add("pending_commands", commands);
+        JsonArray capabilities = new JsonArray();
+        capabilities.add("batch_status");
+        capabilities.add("long_poll");
+        json.add("capabilities", capabilities);
+        response = gson.toJson(json);
+    }
+
+    @Benchmark
+    public List<PendingCommand> parse() {
+        JsonObject responseJson = gson.fromJson(response, JsonObject.class);
+        return WebServerCommunicator.parsePendingCommands(responseJson.getAsJsonArray("pending_commands"));
+    }
+
+    @Benchmark
+    public void parseStreaming(Blackhole blackhole) throws IOException {
+        PendingCommandReader.Result result = PendingCommandReader.read(
+                gson.newJsonReader(new StringReader(response)),
+                new PendingCommandReader.Listener() {
+                    @Override
+                    public void onCommand(JsonObject envelope, PendingCommand command) {
+                        blackhole.consume(command);
+                    }
+
+                    @Override
+                    public void onEnd(JsonObject envelope) {
+                    }
+                });
+        blackhole.consume(result);
+    }
+}
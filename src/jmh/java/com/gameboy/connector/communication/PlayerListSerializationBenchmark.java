@@ -0,0 +1,77 @@
+package com.gameboy.connector.communication;
+
+import com.gameboy.connector.models.ModelTypeAdapters;
+import com.gameboy.connector.models.PlayerInfo;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플레이어 목록 직렬화 벤치마크
+ * - gsonToJson: 플레이어 목록 전체를 Gson으로 문자열 변환
+ * - streamingFullUpdate: 전체 목록 요청 본문을 JsonWriter로 바로 기록 (실제 전송 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerListSerializationBenchmark {
+
+    @Param({"50", "500"})
+    public int playerCount;
+
+    // reflection: Gson 기본 리플렉션 직렬화, adapters: ModelTypeAdapters (통신 클래스가 사용하는 설정)
+    @Param({"reflection", "adapters"})
+    public String gsonMode;
+
+    private Gson gson;
+    private final StringWriter writer = new StringWriter(65536);
+    private JsonPayloads payloads;
+    private List<PlayerInfo> players;
+    private PlayerPresenceTracker.PresenceUpdate fullUpdate;
+
+    @Setup
+    public void setUp() {
+        gson = "adapters".equals(gsonMode) ? ModelTypeAdapters.register(new GsonBuilder()).create() : new Gson();
+        payloads = new JsonPayloads(gson, "GB-BENCH");
+        players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new PlayerInfo("Player_" + i, UUID.nameUUIDFromBytes(("Player_" + i).getBytes()).toString()));
+        }
+
+        PlayerPresenceTracker tracker = new PlayerPresenceTracker(300_000);
+        tracker.reset(players);
+        fullUpdate = tracker.prepareUpdate(System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public String gsonToJson() {
+        return gson.toJson(players);
+    }
+
+    @Benchmark
+    public int streamingFullUpdate() throws IOException {
+        writer.getBuffer().setLength(0);
+        payloads.playerUpdate(fullUpdate, "2025-01-15T00:00:00Z").writeTo(writer);
+        return writer.getBuffer().length();
+    }
+}
@@ -0,0 +1,115 @@
+package com.gameboy.connector.communication;
+
+import com.gameboy.connector.models.PluginInfo;
+import com.gameboy.connector.models.ServerInfo;
+import com.gameboy.connector.models.WorldInfo;
+import com.gameboy.connector.models.ModelTypeAdapters;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 정보 직렬화 벤치마크
+ * - toJsonTree: 변경 추적(ServerInfoTracker)이 항목별 지문을 만들 때 사용하는 JSON 트리 변환
+ * - streamingPayload: 전체 서버 정보 요청 본문을 JsonWriter로 바로 기록
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServerInfoSerializationBenchmark {
+
+    @Param({"10", "50", "200"})
+    public int pluginCount;
+
+    // reflection: Gson 기본 리플렉션 직렬화, adapters: ModelTypeAdapters (통신 클래스가 사용하는 설정)
+    @Param({"reflection", "adapters"})
+    public String gsonMode;
+
+    private Gson gson;
+    private final StringWriter writer = new StringWriter(8192);
+    private JsonPayloads payloads;
+    private ServerInfo serverInfo;
+
+    @Setup
+    public void setUp() {
+        gson = "adapters".equals(gsonMode) ? ModelTypeAdapters.register(new GsonBuilder()).create() : new Gson();
+        payloads = new JsonPayloads(gson, "GB-BENCH");
+        serverInfo = sampleServerInfo(pluginCount);
+    }
+
+    @Benchmark
+    public JsonElement toJsonTree() {
+        return gson.toJsonTree(serverInfo);
+    }
+
+    @Benchmark
+    public int streamingPayload() throws IOException {
+        writer.getBuffer().setLength(0);
+        payloads.serverInfo(serverInfo, "2025-01-15T00:00:00Z").writeTo(writer);
+        return writer.getBuffer().length();
+    }
+
+    /**
+     * 실제 서버와 비슷한 서버 정보 (플러그인 이름/버전 길이도 실제 목록 수준)
+     */
+    static ServerInfo sampleServerInfo(int pluginCount) {
+        ServerInfo info = new ServerInfo();
+        info.setServerCode("GB-BENCH");
+        info.setServerName("Paper Survival Server");
+        info.setInternalIp("192.168.0.10");
+        info.setExternalIp("203.0.113.10");
+        info.setServerPort(25565);
+        info.setMotd("§a게임보이 서버에 오신 것을 환영합니다! §7| §e야생 · 미니게임");
+        info.setVersion("git-Paper-497 (MC: 1.20.4)");
+        info.setProtocolVersion(765);
+        info.setMaxPlayers(200);
+        info.setOnlinePlayers(87);
+        info.setTps(19.87);
+        info.setServerUptime(86_400_000L);
+        info.setMemoryUsage(6_442_450_944L, 8_589_934_592L);
+        info.setJavaVersion("17.0.9");
+        info.setOsInfo("Linux 5.15.0-91-generic (amd64)");
+        info.setGamemode("SURVIVAL");
+        info.setDifficulty("NORMAL");
+        info.setPvpEnabled(true);
+        info.setWhitelistEnabled(false);
+        info.setWorldName("world");
+        info.setWorldSize(12_884_901_888L);
+        info.setChunksLoaded(4821);
+        info.setWorlds(List.of(
+                new WorldInfo("world", "normal", 12_884_901_888L, 4821, 71),
+                new WorldInfo("world_nether", "nether", 1_610_612_736L, 912, 11),
+                new WorldInfo("world_the_end", "the_end", 268_435_456L, 240, 5)));
+        info.setOpCount(3);
+
+        String[] names = {"EssentialsX", "LuckPerms", "WorldEdit", "WorldGuard", "Vault", "CoreProtect",
+                "PlaceholderAPI", "ProtocolLib", "Multiverse-Core", "GriefPrevention"};
+        List<PluginInfo> plugins = new ArrayList<>(pluginCount);
+        for (int i = 0; i < pluginCount; i++) {
+            String name = names[i % names.length] + (i < names.length ? "" : "-" + i);
+            plugins.add(new PluginInfo(name, "2." + (i % 20) + "." + (i % 7) + "-SNAPSHOT", i % 9 != 0));
+        }
+        info.setPlugins(plugins);
+        return info;
+    }
+}
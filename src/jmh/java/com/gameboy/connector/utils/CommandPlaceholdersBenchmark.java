@@ -0,0 +1,59 @@
+package com.gameboy.connector.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 웹 명령어 대체문자 변환 벤치마크 (executeWebCommand의 대체문자 치환)
+ * 캐시된 템플릿 기록과 기존 방식(String.replace)을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommandPlaceholdersBenchmark {
+
+    @Param({
+            "say 서버 점검이 10분 후 시작됩니다",
+            "give <player> minecraft:diamond 64",
+            "lp user <player> parent add vip <player>",
+            "shop log <server_code> <player> <uuid> <timestamp>"
+    })
+    public String command;
+
+    public String playerName = "Steve_1234";
+
+    private CommandPlaceholders.Context context;
+
+    @Setup
+    public void setUp() {
+        context = new CommandPlaceholders.Context(playerName);
+        context.setPlayerUuid("00000000-0000-0000-0000-000000000001");
+        context.setWorldName("world");
+        context.setServerCode("GB-A1B2-C3D4-E5F6");
+        context.setTimestamp(1700000000L);
+    }
+
+    @Benchmark
+    public String replace() {
+        return command.replace(CommandPlaceholders.PLAYER, playerName);
+    }
+
+    @Benchmark
+    public String template() {
+        return CommandPlaceholders.apply(command, context);
+    }
+}
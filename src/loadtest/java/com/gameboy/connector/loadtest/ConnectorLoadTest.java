@@ -0,0 +1,325 @@
+package com.gameboy.connector.loadtest;
+
+import com.gameboy.connector.GameboyConnector;
+import com.gameboy.connector.commands.WebCommandExecutor;
+import com.gameboy.connector.communication.ConnectorHost;
+import com.gameboy.connector.communication.OutboundDispatcher;
+import com.gameboy.connector.communication.WebServerCommunicator;
+import com.gameboy.connector.metrics.ConnectorMetrics;
+import com.gameboy.connector.models.PendingCommand;
+import com.gameboy.connector.models.ServerInfo;
+import com.gameboy.connector.utils.Logger;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+/**
+ * 커넥터 부하 테스트
+ * 모의 웹서버(MockGameboyBackend)를 띄우고 WebServerCommunicator가 명령어를 받아 실행하고 결과를 보고하기까지의
+ * 처리량(명령어/초), 종단 지연 시간 백분위, 엔드포인트별 요청 수를 측정합니다.
+ *
+ * 실행: ./gradlew loadTest -PloadTestArgs="--commands=5000 --latency=20 --error-rate=0.01"
+ */
+public class ConnectorLoadTest {
+
+    private static final String SERVER_CODE = "GB-LOAD-TEST";
+    private static final long TICK_MILLIS = 50; // 서버 틱 간격
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArgs(args);
+        int commands = Integer.parseInt(options.getOrDefault("commands", "5000"));
+        int queueDepth = Integer.parseInt(options.getOrDefault("queue-depth", "100"));
+        int batchSize = Integer.parseInt(options.getOrDefault("batch-size", "10"));
+        long latency = Long.parseLong(options.getOrDefault("latency", "5"));
+        long jitter = Long.parseLong(options.getOrDefault("jitter", "5"));
+        double errorRate = Double.parseDouble(options.getOrDefault("error-rate", "0"));
+        long redelivery = Long.parseLong(options.getOrDefault("redelivery-ms", "10000"));
+        long executionMicros = Long.parseLong(options.getOrDefault("exec-micros", "200"));
+        long backgroundInterval = Long.parseLong(options.getOrDefault("background-interval-ms", "1000"));
+        long timeout = Long.parseLong(options.getOrDefault("timeout", "300"));
+        Set<String> capabilities = new LinkedHashSet<>();
+        for (String capability : options.getOrDefault("capabilities",
+                "batch_status,long_poll,player_delta,server_info_delta").split(",")) {
+            if (!capability.isBlank()) {
+                capabilities.add(capability.trim());
+            }
+        }
+
+        MockGameboyBackend backend = MockGameboyBackend.start(0);
+        backend.setLatency(latency, jitter);
+        backend.setErrorRate(errorRate);
+        backend.setMaxCommandsPerResponse(batchSize);
+        backend.setCapabilities(capabilities);
+        backend.setRedeliveryTime(redelivery);
+
+        LoadTestHost host = new LoadTestHost(loadConfig(options), executionMicros);
+        WebServerCommunicator communicator = new WebServerCommunicator(host, backend.getBaseUrl(), SERVER_CODE);
+
+        System.out.println("모의 웹서버: " + backend.getBaseUrl() + " (기능: " + capabilities + ")");
+        System.out.println("명령어 " + commands + "건, 대기열 깊이 " + queueDepth + ", 응답당 " + batchSize + "건, 지연 "
+                + latency + "+" + jitter + "ms, 오류율 " + errorRate);
+
+        // 실제 플러그인처럼 플레이어 목록/서버 정보 전송을 함께 돌려 명령어 처리와의 간섭까지 측정
+        OutboundDispatcher dispatcher = communicator.getDispatcher();
+        for (int i = 0; i < 20; i++) {
+            communicator.getPresenceTracker().playerJoined("Player" + i, new UUID(0, i).toString());
+        }
+        dispatcher.schedulePeriodic(OutboundDispatcher.Priority.PLAYER_PRESENCE, "player-list",
+                backgroundInterval, communicator::updatePlayerList);
+        dispatcher.schedulePeriodic(OutboundDispatcher.Priority.SERVER_INFO, "server-info-sample",
+                backgroundInterval, () -> communicator.sendServerInfo(sampleServerInfo()));
+
+        long start = System.nanoTime();
+        backend.feedCommands(commands, queueDepth, "say load test");
+        communicator.startCommandChannel();
+
+        long deadline = start + TimeUnit.SECONDS.toNanos(timeout);
+        while (backend.getCompletedCommands() < commands && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        communicator.shutdown();
+        host.shutdown();
+        backend.stop();
+
+        report(backend, host.getMetrics(), commands, elapsedSeconds);
+        System.exit(backend.getCompletedCommands() < commands ? 1 : 0);
+    }
+
+    private static void report(MockGameboyBackend backend, ConnectorMetrics metrics, int commands, double elapsedSeconds) {
+        long completed = backend.getCompletedCommands();
+        MockGameboyBackend.LatencyRecorder latencies = backend.getCommandLatencies();
+
+        System.out.println();
+        System.out.println("=== 부하 테스트 결과 ===");
+        System.out.printf("완료: %d / %d건 (%.2f초)%n", completed, commands, elapsedSeconds);
+        System.out.printf("처리량: %.1f 명령어/초%n", completed / elapsedSeconds);
+        System.out.printf("종단 지연 (대기열 등록 → 결과 보고): p50 %.1fms, p90 %.1fms, p99 %.1fms, 최대 %.1fms%n",
+                latencies.percentileMillis(50), latencies.percentileMillis(90),
+                latencies.percentileMillis(99), latencies.percentileMillis(100));
+        System.out.println("요청 수:");
+        long totalRequests = 0;
+        for (Map.Entry<String, Long> entry : backend.getRequestCounts().entrySet()) {
+            System.out.printf("  %-32s %d%n", entry.getKey(), entry.getValue());
+            totalRequests += entry.getValue();
+        }
+        System.out.printf("  %-32s %d (명령어당 %.2f건)%n", "합계", totalRequests,
+                completed > 0 ? (double) totalRequests / completed : 0);
+        System.out.println("주입된 오류: " + backend.getInjectedErrors() + "건, 재전송된 명령어: "
+                + backend.getRedeliveredCommands() + "건, 수신 본문: " + backend.getBytesReceived() + "바이트");
+        System.out.println("커넥터 지표:");
+        metrics.snapshot().forEach((name, value) -> System.out.println("  " + name + " = " + value));
+    }
+
+    /**
+     * 플러그인 기본 config.yml에 부하 테스트용 값을 덮어씀 (--config.<경로>=값 옵션으로 변경 가능)
+     */
+    private static FileConfiguration loadConfig(Map<String, String> options) throws IOException {
+        YamlConfiguration config;
+        try (InputStream in = ConnectorLoadTest.class.getResourceAsStream("/config.yml")) {
+            if (in == null) {
+                throw new IOException("config.yml 리소스를 찾을 수 없습니다.");
+            }
+            config = YamlConfiguration.loadConfiguration(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        config.set("dispatcher.startup_jitter", 0);
+        config.set("outbox.enabled", false);
+        config.set("rate_limit.enabled", false); // 처리량 측정이 목적이므로 속도 제한은 옵션으로만 사용
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            if (option.getKey().startsWith("config.")) {
+                config.set(option.getKey().substring("config.".length()), parseValue(option.getValue()));
+            }
+        }
+        return config;
+    }
+
+    private static Object parseValue(String value) {
+        if ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) {
+            return Boolean.parseBoolean(value);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            // 숫자가 아님
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return value;
+        }
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    /**
+     * 상태 값만 조금씩 바뀌는 서버 정보 (실제 서버의 주기 수집과 비슷한 변경분 발생)
+     */
+    private static ServerInfo sampleServerInfo() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ServerInfo info = new ServerInfo();
+        info.setServerCode(SERVER_CODE);
+        info.setServerName("Load Test Server");
+        info.setInternalIp("127.0.0.1");
+        info.setExternalIp("127.0.0.1");
+        info.setServerPort(25565);
+        info.setMotd("Load Test");
+        info.setVersion("1.20.4");
+        info.setMaxPlayers(100);
+        info.setOnlinePlayers(20);
+        info.setTps(19.5 + random.nextDouble(0.5));
+        info.setServerUptime(System.currentTimeMillis());
+        info.setMemoryUsage(2048L * 1024 * 1024 + random.nextLong(64L * 1024 * 1024), 4096L * 1024 * 1024);
+        info.setJavaVersion(System.getProperty("java.version"));
+        info.setOsInfo(System.getProperty("os.name"));
+        info.setWorldName("world");
+        info.setPlugins(Collections.emptyList());
+        return info;
+    }
+
+    /**
+     * 서버 없이 동작하는 플러그인 기능 - 명령어는 "메인 스레드" 역할의 단일 스레드에서 50ms 틱마다 실행
+     */
+    private static final class LoadTestHost implements ConnectorHost {
+        private final FileConfiguration config;
+        private final long executionNanos;
+        private final ConnectorMetrics metrics = new ConnectorMetrics();
+        private final Logger logger = new ConsoleLogger();
+        private final File dataFolder;
+        private final WebCommandExecutor executor;
+        private final ScheduledExecutorService mainThread = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "LoadTest-Main");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        private LoadTestHost(FileConfiguration config, long executionMicros) throws IOException {
+            this.config = config;
+            this.executionNanos = TimeUnit.MICROSECONDS.toNanos(executionMicros);
+            this.dataFolder = Files.createTempDirectory("gameboy-loadtest").toFile();
+            this.dataFolder.deleteOnExit();
+            // 서버 틱(50ms)마다 실행기를 돌림 - MSPT는 틱 간격으로 추정
+            this.executor = new WebCommandExecutor(config, metrics, () -> Double.NaN);
+            mainThread.scheduleAtFixedRate(executor::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public FileConfiguration getConfig() {
+            return config;
+        }
+
+        @Override
+        public Logger getPluginLogger() {
+            return logger;
+        }
+
+        @Override
+        public ConnectorMetrics getMetrics() {
+            return metrics;
+        }
+
+        @Override
+        public File getDataFolder() {
+            return dataFolder;
+        }
+
+        @Override
+        public List<CompletableFuture<GameboyConnector.CommandExecutionResult>> runWebCommands(List<PendingCommand> commands,
+                                                                                          Predicate<PendingCommand> deferOffline) {
+            List<CompletableFuture<GameboyConnector.CommandExecutionResult>> futures = new ArrayList<>(commands.size());
+            for (PendingCommand command : commands) {
+                futures.add(executor.submit(() -> execute(command)));
+            }
+            return futures;
+        }
+
+        private GameboyConnector.CommandExecutionResult execute(PendingCommand command) {
+            GameboyConnector.CommandExecutionResult result = new GameboyConnector.CommandExecutionResult();
+            result.setTick(executor.getTickCount());
+            result.setStartedAt(System.nanoTime());
+            // 명령어 실행 시간 흉내
+            if (executionNanos > 0) {
+                LockSupport.parkNanos(executionNanos);
+            }
+            result.setExecutionNanos(System.nanoTime() - result.getStartedAt());
+            result.setSuccess(true);
+            result.setExecutedCommand(command.getCommandString());
+            result.setOutput("");
+            result.setOutputLines(Collections.emptyList());
+            return result;
+        }
+
+        private void shutdown() {
+            mainThread.shutdownNow();
+            executor.stop();
+        }
+    }
+
+    /**
+     * 표준 출력 로거 (경고/오류만 출력)
+     */
+    private static final class ConsoleLogger extends Logger {
+        private ConsoleLogger() {
+            super(null);
+        }
+
+        @Override
+        public void info(String message) {
+            // 부하 테스트 중에는 정보 로그 생략
+        }
+
+        @Override
+        public void warning(String message) {
+            System.out.println("[경고] " + message);
+        }
+
+        @Override
+        public void severe(String message) {
+            System.out.println("[오류] " + message);
+        }
+
+        @Override
+        public void debug(String message) {
+        }
+
+        @Override
+        public void exception(String message, Throwable throwable) {
+            severe(message + ": " + throwable.getMessage());
+        }
+    }
+}
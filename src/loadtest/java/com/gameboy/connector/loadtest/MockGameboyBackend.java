@@ -0,0 +1,443 @@
+package com.gameboy.connector.loadtest;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로컬 모의 웹서버
+ * JDK HttpServer로 gameboy.kr 플러그인 API(명령어 폴링/상태, 플레이어 목록, 서버 정보, 명령어 결과, 하트비트)를 흉내 냅니다.
+ * 응답 지연, 오류 비율, 명령어 대기열 깊이를 바꿔 가며 커넥터의 처리량과 지연 시간을 측정할 수 있습니다.
+ */
+public class MockGameboyBackend {
+
+    private static final String COMMANDS_ENDPOINT = "/pending-commands.php";
+    private static final String PLAYER_LIST_ENDPOINT = "/plugin-player-list.php";
+    private static final String SERVER_INFO_ENDPOINT = "/plugin-server-info.php";
+    private static final String COMMAND_RESULT_ENDPOINT = "/command-result.php";
+    private static final String HEARTBEAT_ENDPOINT = "/plugin-heartbeat.php";
+
+    private final Gson gson = new Gson();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    // 주입 조건 (실행 중 변경 가능)
+    private volatile long latencyMillis = 0;
+    private volatile long latencyJitterMillis = 0;
+    private volatile double errorRate = 0;
+    private volatile int maxCommandsPerResponse = 10;
+    private volatile Set<String> capabilities = Set.of();
+    private volatile long redeliveryMillis = 0; // 최종 상태가 오지 않은 명령어 재전송 대기 시간 (0이면 재전송 안 함)
+
+    // 명령어 대기열 - 깊이를 유지하도록 남은 명령어 예산에서 채움
+    private final ArrayDeque<QueuedCommand> queue = new ArrayDeque<>();
+    private final AtomicInteger nextCommandId = new AtomicInteger(1);
+    private int queueDepth = 0;
+    private int remainingCommands = 0;
+    private String commandString = "say load test";
+    private final Map<Integer, QueuedCommand> served = new LinkedHashMap<>(); // 전송 후 최종 상태를 기다리는 명령어 (전송 순서)
+
+    // 결과 집계
+    private final Map<Integer, Long> enqueuedAt = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+    private final LongAdder injectedErrors = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder completedCommands = new LongAdder();
+    private final LongAdder redeliveredCommands = new LongAdder();
+    private final LatencyRecorder commandLatencies = new LatencyRecorder();
+
+    private MockGameboyBackend(HttpServer server) {
+        this.server = server;
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "MockGameboyBackend");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * 모의 웹서버 시작 (port가 0이면 빈 포트 사용)
+     */
+    public static MockGameboyBackend start(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 256);
+        MockGameboyBackend backend = new MockGameboyBackend(server);
+        server.start();
+        return backend;
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 명령어 공급 - 대기열에 최대 depth개가 쌓여 있도록 총 count개를 차례로 넣음
+     */
+    public void feedCommands(int count, int depth, String command) {
+        synchronized (queue) {
+            remainingCommands += count;
+            queueDepth = Math.max(1, depth);
+            commandString = command;
+            refill();
+        }
+    }
+
+    private void refill() {
+        while (queue.size() < queueDepth && remainingCommands > 0) {
+            int id = nextCommandId.getAndIncrement();
+            queue.add(new QueuedCommand(id, "LoadTester", commandString));
+            enqueuedAt.put(id, System.nanoTime());
+            remainingCommands--;
+        }
+        queue.notifyAll();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            requestCounts.computeIfAbsent(method + " " + path, key -> new LongAdder()).increment();
+
+            byte[] body = readBody(exchange);
+            bytesReceived.add(body.length);
+
+            simulateLatency();
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                injectedErrors.increment();
+                respond(exchange, 500, error("injected failure"));
+                return;
+            }
+
+            JsonObject request = body.length > 0
+                    ? gson.fromJson(new String(body, StandardCharsets.UTF_8), JsonObject.class)
+                    : new JsonObject();
+
+            switch (path) {
+                case COMMANDS_ENDPOINT:
+                    if ("GET".equals(method)) {
+                        respond(exchange, 200, pendingCommands(waitSeconds(exchange)));
+                    } else {
+                        recordStatuses(request);
+                        respond(exchange, 200, success());
+                    }
+                    break;
+                case PLAYER_LIST_ENDPOINT:
+                case SERVER_INFO_ENDPOINT:
+                    respond(exchange, 200, echoSequence(success(), request));
+                    break;
+                case COMMAND_RESULT_ENDPOINT:
+                    respond(exchange, 200, success());
+                    break;
+                case HEARTBEAT_ENDPOINT:
+                    respond(exchange, 200, heartbeat(request));
+                    break;
+                default:
+                    respond(exchange, 200, success());
+            }
+        } catch (Exception e) {
+            respond(exchange, 500, error(e.getMessage()));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * 대기 중인 명령어 응답 - 대기열이 비어 있고 wait가 있으면 명령어가 들어올 때까지 대기 (롱폴링)
+     */
+    private JsonObject pendingCommands(long waitSeconds) throws InterruptedException {
+        JsonArray commands = new JsonArray();
+        synchronized (queue) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(waitSeconds);
+            requeueExpired();
+            while (queue.isEmpty() && waitSeconds > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+                TimeUnit.NANOSECONDS.timedWait(queue, Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(200)));
+                requeueExpired();
+            }
+            while (!queue.isEmpty() && commands.size() < maxCommandsPerResponse) {
+                QueuedCommand command = queue.poll();
+                if (redeliveryMillis > 0) {
+                    command.servedAt = System.nanoTime();
+                    served.put(command.id, command);
+                }
+                JsonObject json = new JsonObject();
+                json.addProperty("id", command.id);
+                json.addProperty("player_name", command.playerName);
+                json.addProperty("command_string", command.command);
+                commands.add(json);
+            }
+            refill();
+        }
+
+        JsonObject response = success();
+        response.add("pending_commands", commands);
+        return response;
+    }
+
+    /**
+     * 전송 후 재전송 대기 시간이 지나도록 최종 상태가 오지 않은 명령어를 대기열 앞에 다시 넣음
+     * (실제 웹서버처럼 결과 보고가 유실된 명령어를 다시 보냄)
+     */
+    private void requeueExpired() {
+        if (redeliveryMillis <= 0 || served.isEmpty()) {
+            return;
+        }
+        long expiredBefore = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(redeliveryMillis);
+        Iterator<QueuedCommand> oldest = served.values().iterator();
+        List<QueuedCommand> expired = new ArrayList<>();
+        while (oldest.hasNext()) {
+            QueuedCommand command = oldest.next();
+            if (command.servedAt - expiredBefore > 0) {
+                break;
+            }
+            oldest.remove();
+            expired.add(command);
+        }
+        for (int i = expired.size() - 1; i >= 0; i--) {
+            queue.addFirst(expired.get(i));
+        }
+        redeliveredCommands.add(expired.size());
+    }
+
+    /**
+     * 명령어 상태 업데이트 기록 (단건 또는 batch_status)
+     */
+    private void recordStatuses(JsonObject request) {
+        if (request.has("updates")) {
+            for (JsonElement update : request.getAsJsonArray("updates")) {
+                recordStatus(update.getAsJsonObject());
+            }
+        } else if (request.has("queue_id")) {
+            recordStatus(request);
+        }
+    }
+
+    private void recordStatus(JsonObject update) {
+        String status = update.get("status").getAsString();
+        if (!"completed".equals(status) && !"failed".equals(status)) {
+            return;
+        }
+        int queueId = update.get("queue_id").getAsInt();
+        synchronized (queue) {
+            served.remove(queueId);
+        }
+        Long start = enqueuedAt.remove(queueId);
+        if (start != null) {
+            commandLatencies.record(System.nanoTime() - start);
+            completedCommands.increment();
+        }
+    }
+
+    private JsonObject heartbeat(JsonObject request) throws InterruptedException {
+        if (request.has("updates")) {
+            recordStatuses(request);
+        }
+        boolean poll = request.has("poll") && request.get("poll").getAsBoolean();
+        JsonObject response = poll ? pendingCommands(0) : success();
+        for (String section : new String[] {"player_list", "server_info"}) {
+            if (request.has(section)) {
+                JsonObject echo = new JsonObject();
+                echo.add("seq", request.getAsJsonObject(section).get("seq"));
+                response.add(section, echo);
+            }
+        }
+        return response;
+    }
+
+    private JsonObject echoSequence(JsonObject response, JsonObject request) {
+        if (request.has("seq")) {
+            response.add("seq", request.get("seq"));
+        }
+        return response;
+    }
+
+    private JsonObject success() {
+        JsonObject response = new JsonObject();
+        response.addProperty("status", "success");
+        JsonArray advertised = new JsonArray();
+        for (String capability : capabilities) {
+            advertised.add(capability);
+        }
+        response.add("capabilities", advertised);
+        return response;
+    }
+
+    private static JsonObject error(String message) {
+        JsonObject response = new JsonObject();
+        response.addProperty("status", "error");
+        response.addProperty("message", message);
+        return response;
+    }
+
+    private void simulateLatency() throws InterruptedException {
+        long delay = latencyMillis;
+        if (latencyJitterMillis > 0) {
+            delay += ThreadLocalRandom.current().nextLong(latencyJitterMillis + 1);
+        }
+        if (delay > 0) {
+            Thread.sleep(delay);
+        }
+    }
+
+    private static long waitSeconds(HttpExchange exchange) {
+        String query = exchange.getRequestURI().getQuery();
+        if (query == null) {
+            return 0;
+        }
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith("wait=")) {
+                return Long.parseLong(parameter.substring(5));
+            }
+        }
+        return 0;
+    }
+
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, JsonObject body) throws IOException {
+        byte[] bytes = gson.toJson(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    // 주입 조건 설정
+    public void setLatency(long latencyMillis, long jitterMillis) {
+        this.latencyMillis = Math.max(0, latencyMillis);
+        this.latencyJitterMillis = Math.max(0, jitterMillis);
+    }
+
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public void setMaxCommandsPerResponse(int maxCommandsPerResponse) {
+        this.maxCommandsPerResponse = Math.max(1, maxCommandsPerResponse);
+    }
+
+    public void setCapabilities(Set<String> capabilities) {
+        this.capabilities = Set.copyOf(capabilities);
+    }
+
+    public void setRedeliveryTime(long redeliveryMillis) {
+        this.redeliveryMillis = Math.max(0, redeliveryMillis);
+    }
+
+    // 집계 결과
+    public long getCompletedCommands() {
+        return completedCommands.sum();
+    }
+
+    public LatencyRecorder getCommandLatencies() {
+        return commandLatencies;
+    }
+
+    public long getInjectedErrors() {
+        return injectedErrors.sum();
+    }
+
+    public long getRedeliveredCommands() {
+        return redeliveredCommands.sum();
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    /**
+     * 엔드포인트별 요청 수 ("메서드 경로" → 횟수)
+     */
+    public Map<String, Long> getRequestCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        requestCounts.forEach((key, adder) -> counts.put(key, adder.sum()));
+        return counts;
+    }
+
+    /**
+     * 대기열의 명령어
+     */
+    private static final class QueuedCommand {
+        private final int id;
+        private final String playerName;
+        private final String command;
+        private long servedAt; // queue 잠금으로 보호
+
+        private QueuedCommand(int id, String playerName, String command) {
+            this.id = id;
+            this.playerName = playerName;
+            this.command = command;
+        }
+    }
+
+    /**
+     * 지연 시간 기록 - 백분위 계산용
+     */
+    public static class LatencyRecorder {
+        private long[] samples = new long[1024];
+        private int size = 0;
+
+        public synchronized void record(long nanos) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+        }
+
+        /**
+         * 백분위 값 (ms, 0~100)
+         */
+        public synchronized double percentileMillis(double percentile) {
+            if (size == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+            return sorted[Math.min(Math.max(index, 0), size - 1)] / 1_000_000.0;
+        }
+
+        public synchronized int size() {
+            return size;
+        }
+    }
+}
@@ -1,16 +1,27 @@
 package com.gameboy.connector;
 
 import com.gameboy.connector.commands.GameboyCommand;
+import com.gameboy.connector.commands.WebCommandExecutor;
+import com.gameboy.connector.communication.ConnectorHost;
+import com.gameboy.connector.communication.OutboundDispatcher;
 import com.gameboy.connector.communication.WebServerCommunicator;
 import com.gameboy.connector.config.ServerCodeConfig;
 import com.gameboy.connector.listeners.PlayerEventListener;
+import com.gameboy.connector.metrics.ConnectorMetrics;
+import com.gameboy.connector.models.PendingCommand;
 import com.gameboy.connector.models.PlayerInfo;
 import com.gameboy.connector.models.ServerInfo;
+import com.gameboy.connector.models.WorldInfo;
+import com.gameboy.connector.utils.CommandPlaceholders;
+import com.gameboy.connector.utils.CommandResultCapture;
+import com.gameboy.connector.utils.CommandTemplate;
 import com.gameboy.connector.utils.Logger;
+import com.gameboy.connector.utils.WorldSizeIndex;
 import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.yaml.snakeyaml.Yaml;
 
@@ -20,28 +31,42 @@ import java.nio.file.Files;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 
 /**
  * GameBoy Connector 플러그인 메인 클래스
  * GameBoy.kr 웹서버와 통신하는 마인크래프트 플러그인
  */
-public class GameboyConnector extends JavaPlugin {
+public class GameboyConnector extends JavaPlugin implements ConnectorHost {
     
     private static GameboyConnector instance;
     private WebServerCommunicator communicator;
+    private WebCommandExecutor commandExecutor;
+    private CommandResultCapture.Pool capturePool;
     private ServerCodeConfig serverConfig;
     private Logger logger;
+    private ConnectorMetrics metrics;
+    private WorldSizeIndex worldSizeIndex;
     private boolean isEnabled = false;
     private long serverStartTime;
     
+    // 외부 IP는 조회가 오래 걸리므로 업데이트 간격마다만 다시 조회
+    private volatile String cachedExternalIp = null;
+    private volatile long externalIpCheckedAt = 0;
+    
+    // Paper 서버의 평균 MSPT 조회 메서드 (없으면 null, 메인 스레드에서만 사용)
+    private java.lang.reflect.Method averageTickTimeMethod;
+    
     // 플러그인 상수
     private static final String SERVER_CODE_FILE = "server-code.yml";
     private static final String API_BASE_URL = "https://gameboy.kr/api/plugins/gameboy-connector";
+    private static final String BASE_URL_PROPERTY = "gameboy.connector.baseUrl"; // 로컬 테스트 웹서버 주소 (JVM 옵션)
     
     @Override
     public void onEnable() {
         instance = this;
         logger = new Logger(this);
+        metrics = new ConnectorMetrics();
         serverStartTime = System.currentTimeMillis();
         
         try {
@@ -81,9 +106,18 @@ public class GameboyConnector extends JavaPlugin {
             
             // 웹서버에 서버 종료 알림
             if (communicator != null) {
+                communicator.shutdown();
                 communicator.sendServerShutdown();
             }
         }
+        
+        if (commandExecutor != null) {
+            commandExecutor.stop();
+        }
+        
+        if (worldSizeIndex != null) {
+            worldSizeIndex.close();
+        }
     }
     
     /**
@@ -101,6 +135,13 @@ public class GameboyConnector extends JavaPlugin {
         // 설정 로드
         loadPluginConfig();
         
+        // 월드 크기 색인 (월드별 크기는 서버 정보 수집 시 처음 조회할 때 계산 시작)
+        worldSizeIndex = new WorldSizeIndex(
+            getConfig().getLong("world_size.rescan_interval", 1800) * 1000L,
+            getConfig().getBoolean("world_size.watch", true),
+            logger, metrics
+        );
+        
         logger.info("플러그인 초기화 완료");
     }
     
@@ -245,14 +286,41 @@ public class GameboyConnector extends JavaPlugin {
      * 웹서버 통신자 초기화
      */
     private void initializeCommunicator() {
+        // 웹 명령어는 매 틱 시간 한도 안에서 메인 스레드 실행기가 실행
+        try {
+            averageTickTimeMethod = getServer().getClass().getMethod("getAverageTickTime");
+        } catch (NoSuchMethodException e) {
+            averageTickTimeMethod = null; // Paper가 아닌 서버 - 틱 간격으로 MSPT 추정
+        }
+        commandExecutor = new WebCommandExecutor(getConfig(), metrics, this::getServerMspt);
+        capturePool = new CommandResultCapture.Pool(
+            getConfig().getInt("command_execution.max_output_lines", 100),
+            getConfig().getInt("command_execution.max_output_bytes", 8192)
+        );
+        getServer().getScheduler().runTaskTimer(this, commandExecutor::tick, 1L, 1L);
+        
         communicator = new WebServerCommunicator(
-            API_BASE_URL,
+            this,
+            getApiBaseUrl(),
             serverConfig.getServerCode()
         );
         
         logger.info("웹서버 통신자 초기화 완료");
     }
     
+    /**
+     * 웹서버 API 주소 - 기본값은 내부 상수이며, 로컬 테스트 웹서버를 쓰는 경우에만 JVM 옵션으로 변경
+     * (예: -Dgameboy.connector.baseUrl=http://127.0.0.1:8080)
+     */
+    private String getApiBaseUrl() {
+        String override = System.getProperty(BASE_URL_PROPERTY);
+        if (override == null || override.isBlank()) {
+            return API_BASE_URL;
+        }
+        logger.warning("기본 웹서버 대신 테스트 웹서버를 사용합니다: " + override);
+        return override.endsWith("/") ? override.substring(0, override.length() - 1) : override;
+    }
+    
     /**
      * 이벤트 리스너 등록
      */
@@ -273,33 +341,38 @@ public class GameboyConnector extends JavaPlugin {
      * 스케줄러 시작
      */
     private void startSchedulers() {
-        // 플레이어 목록 업데이트 (10초마다)
-        getServer().getScheduler().runTaskTimerAsynchronously(this, () -> {
-            try {
-                List<PlayerInfo> players = collectPlayerList();
-                communicator.updatePlayerList(players);
-            } catch (Exception e) {
-                logger.severe("플레이어 목록 업데이트 실패: " + e.getMessage());
-            }
-        }, 0L, 200L); // 10초 = 200 ticks
+        // 현재 접속 중인 플레이어로 접속 상태 추적기 초기화 (/reload 대비)
+        communicator.getPresenceTracker().reset(collectPlayerList());
+        
+        // 웹서버로 나가는 작업은 전송 디스패처에서 우선순위 순서로 실행
+        // (명령어 결과 > 명령어 수신 > 플레이어 목록 > 서버 정보, 첫 실행은 무작위로 분산)
+        OutboundDispatcher dispatcher = communicator.getDispatcher();
+        
+        // 플레이어 목록 업데이트 (10초마다, 변경분만 전송)
+        dispatcher.schedulePeriodic(OutboundDispatcher.Priority.PLAYER_PRESENCE, "player-list", 10000L,
+            communicator::updatePlayerList);
         
-        // 서버 정보 수집 및 전송 (1분마다)
+        // 보관 기간이 지난 보류 명령어 실패 보고 (1분마다), 이미 접속 중인 플레이어의 보류 명령어 실행 (/reload 대비)
+        dispatcher.schedulePeriodic(OutboundDispatcher.Priority.COMMAND_RESULT, "deferred-expiry", 60000L,
+            communicator::expireDeferredCommands);
+        for (Player player : getServer().getOnlinePlayers()) {
+            communicator.runDeferredCommands(player.getName());
+        }
+        
+        // 서버 정보 수집 (기본 10초마다) - 외부 IP/월드 크기 조회가 오래 걸릴 수 있어 비동기 작업에서 수집하고,
+        // 전송만 디스패처에 맡김 (웹서버가 변경분을 지원하면 바뀐 항목만 전송)
+        long serverInfoInterval = Math.max(1, getConfig().getInt("server_info_sync.interval", 10)) * 1000L;
         getServer().getScheduler().runTaskTimerAsynchronously(this, () -> {
             try {
                 collectAndSendServerInfo();
             } catch (Exception e) {
                 logger.severe("서버 정보 수집 실패: " + e.getMessage());
             }
-        }, 0L, 1200L); // 1분 = 1200 ticks
+        }, dispatcher.jitter(serverInfoInterval) / 50, serverInfoInterval / 50); // 1 tick = 50ms
         
-        // 명령어 폴링 및 실행 (5초마다)
-        getServer().getScheduler().runTaskTimerAsynchronously(this, () -> {
-            try {
-                communicator.pollAndExecuteCommands();
-            } catch (Exception e) {
-                logger.severe("명령어 폴링 실패: " + e.getMessage());
-            }
-        }, 100L, 100L); // 5초 = 100 ticks (첫 실행은 5초 후)
+        // 명령어 수신 시작 - 롱폴링 채널, 롱폴링을 쓸 수 없으면 적응형 간격 폴링
+        // (명령어 수신 직후 0.5초 간격, 대기열이 비어 있으면 최대 30초까지 점점 늘림)
+        communicator.startCommandChannel();
         
         logger.info("스케줄러 시작 완료");
     }
@@ -322,78 +395,82 @@ public class GameboyConnector extends JavaPlugin {
      * 서버 정보 수집 및 전송
      */
     private void collectAndSendServerInfo() {
-        getServer().getScheduler().runTaskAsynchronously(this, () -> {
-            try {
-                ServerInfo serverInfo = new ServerInfo();
-                
-                // 서버 코드 설정 로드
-                serverInfo.setServerCode(serverConfig.getServerCode());
-                serverInfo.setServerName(serverConfig.getServerName());
-                
-                // 내부 IP 및 외부 IP 수집
-                String internalIp = getInternalIp();
-                String externalIp = getExternalIp();
-                serverInfo.setInternalIp(internalIp);
-                serverInfo.setExternalIp(externalIp);
-                
-                // 서버 기본 정보
-                serverInfo.setServerPort(getServer().getPort());
-                serverInfo.setMotd(getServer().getMotd());
-                serverInfo.setVersion(getServer().getVersion());
-                serverInfo.setProtocolVersion(getProtocolVersion()); // 동적 프로토콜 버전 감지
-                serverInfo.setMaxPlayers(getServer().getMaxPlayers());
-                serverInfo.setOnlinePlayers(getServer().getOnlinePlayers().size());
-                
-                // 서버 성능 정보
-                serverInfo.setTps(getServerTps()); // 실제 TPS 측정
-                serverInfo.setServerUptime(System.currentTimeMillis() - getServerStartTime());
-                
-                // 메모리 사용량
-                Runtime runtime = Runtime.getRuntime();
-                long totalMemory = runtime.totalMemory();
-                long freeMemory = runtime.freeMemory();
-                long usedMemory = totalMemory - freeMemory;
-                serverInfo.setMemoryUsage(usedMemory, totalMemory);
-                
-                // Java 버전
-                serverInfo.setJavaVersion(System.getProperty("java.version"));
-                
-                // OS 정보
-                serverInfo.setOsInfo(System.getProperty("os.name") + " " + System.getProperty("os.version"));
-                
-                // 서버 설정 정보
-                serverInfo.setGamemode(getServer().getDefaultGameMode().name().toLowerCase());
-                serverInfo.setDifficulty(getServer().getWorlds().get(0).getDifficulty().name().toLowerCase());
-                serverInfo.setPvpEnabled(getServer().getWorlds().get(0).getPVP());
-                serverInfo.setWhitelistEnabled(getServer().hasWhitelist());
-                
-                // 월드 정보
-                World mainWorld = getServer().getWorlds().get(0);
-                serverInfo.setWorldName(mainWorld.getName());
-                serverInfo.setWorldSize(getWorldSize(mainWorld));
-                serverInfo.setChunksLoaded(mainWorld.getLoadedChunks().length);
-                
-                // 플러그인 정보
-                List<com.gameboy.connector.models.PluginInfo> plugins = new ArrayList<>();
-                for (org.bukkit.plugin.Plugin plugin : getServer().getPluginManager().getPlugins()) {
-                    com.gameboy.connector.models.PluginInfo pluginInfo = new com.gameboy.connector.models.PluginInfo();
-                    pluginInfo.setName(plugin.getName());
-                    pluginInfo.setVersion(plugin.getDescription().getVersion());
-                    pluginInfo.setEnabled(plugin.isEnabled());
-                    plugins.add(pluginInfo);
-                }
-                serverInfo.setPlugins(plugins);
-                
-                // 보안 정보
-                serverInfo.setOpCount(getServer().getOperators().size());
-                
-                // 웹서버로 서버 정보 전송
-                communicator.sendServerInfo(serverInfo);
-                
-            } catch (Exception e) {
-                logger.severe("서버 정보 수집 중 오류 발생: " + e.getMessage());
+        try {
+            ServerInfo serverInfo = new ServerInfo();
+            
+            // 서버 코드 설정 로드
+            serverInfo.setServerCode(serverConfig.getServerCode());
+            serverInfo.setServerName(serverConfig.getServerName());
+            
+            // 내부 IP 및 외부 IP 수집
+            String internalIp = getInternalIp();
+            String externalIp = getExternalIp();
+            serverInfo.setInternalIp(internalIp);
+            serverInfo.setExternalIp(externalIp);
+            
+            // 서버 기본 정보
+            serverInfo.setServerPort(getServer().getPort());
+            serverInfo.setMotd(getServer().getMotd());
+            serverInfo.setVersion(getServer().getVersion());
+            serverInfo.setProtocolVersion(getProtocolVersion()); // 동적 프로토콜 버전 감지
+            serverInfo.setMaxPlayers(getServer().getMaxPlayers());
+            serverInfo.setOnlinePlayers(getServer().getOnlinePlayers().size());
+            
+            // 서버 성능 정보
+            serverInfo.setTps(getServerTps()); // 실제 TPS 측정
+            serverInfo.setServerUptime(System.currentTimeMillis() - getServerStartTime());
+            
+            // 메모리 사용량
+            Runtime runtime = Runtime.getRuntime();
+            long totalMemory = runtime.totalMemory();
+            long freeMemory = runtime.freeMemory();
+            long usedMemory = totalMemory - freeMemory;
+            serverInfo.setMemoryUsage(usedMemory, totalMemory);
+            
+            // Java 버전
+            serverInfo.setJavaVersion(System.getProperty("java.version"));
+            
+            // OS 정보
+            serverInfo.setOsInfo(System.getProperty("os.name") + " " + System.getProperty("os.version"));
+            
+            // 서버 설정 정보
+            serverInfo.setGamemode(getServer().getDefaultGameMode().name().toLowerCase());
+            serverInfo.setDifficulty(getServer().getWorlds().get(0).getDifficulty().name().toLowerCase());
+            serverInfo.setPvpEnabled(getServer().getWorlds().get(0).getPVP());
+            serverInfo.setWhitelistEnabled(getServer().hasWhitelist());
+            
+            // 월드 정보 (로드된 모든 월드, 기본 월드 값은 기존 필드에도 설정)
+            List<WorldInfo> worlds = collectWorlds();
+            WorldInfo mainWorld = worlds.get(0);
+            serverInfo.setWorldName(mainWorld.getName());
+            serverInfo.setWorldSize(mainWorld.getSize());
+            serverInfo.setChunksLoaded(mainWorld.getChunksLoaded());
+            serverInfo.setWorlds(worlds);
+            
+            // 플러그인 정보
+            List<com.gameboy.connector.models.PluginInfo> plugins = new ArrayList<>();
+            for (org.bukkit.plugin.Plugin plugin : getServer().getPluginManager().getPlugins()) {
+                com.gameboy.connector.models.PluginInfo pluginInfo = new com.gameboy.connector.models.PluginInfo();
+                pluginInfo.setName(plugin.getName());
+                pluginInfo.setVersion(plugin.getDescription().getVersion());
+                pluginInfo.setEnabled(plugin.isEnabled());
+                plugins.add(pluginInfo);
             }
-        });
+            serverInfo.setPlugins(plugins);
+            
+            // 보안 정보
+            serverInfo.setOpCount(getServer().getOperators().size());
+            
+            // 명령어 속도 제한 정보
+            serverInfo.setCommandsThrottled(communicator.getRateLimiter().getThrottledCount());
+            serverInfo.setCommandsThrottledPending(communicator.getRateLimiter().getPendingCount());
+            
+            // 웹서버로 서버 정보 전송
+            communicator.sendServerInfo(serverInfo);
+            
+        } catch (Exception e) {
+            logger.severe("서버 정보 수집 중 오류 발생: " + e.getMessage());
+        }
     }
     
     /**
@@ -408,9 +485,22 @@ public class GameboyConnector extends JavaPlugin {
     }
     
     /**
-     * 외부 IP 조회 (필수 기능)
+     * 외부 IP 조회 (필수 기능, 업데이트 간격 동안은 마지막 조회 값 사용)
      */
     private String getExternalIp() {
+        long currentTime = System.currentTimeMillis();
+        long updateInterval = getConfig().getInt("web_server.update_interval", 60) * 1000L;
+        if (cachedExternalIp == null || currentTime - externalIpCheckedAt >= updateInterval) {
+            cachedExternalIp = lookupExternalIp();
+            externalIpCheckedAt = currentTime;
+        }
+        return cachedExternalIp;
+    }
+    
+    /**
+     * IP 확인 서비스로 외부 IP 조회
+     */
+    private String lookupExternalIp() {
         try {
             // 여러 IP 확인 서비스 시도
             String[] ipServices = {
@@ -491,31 +581,24 @@ public class GameboyConnector extends JavaPlugin {
     }
     
     /**
-     * 월드 크기 계산
+     * 로드된 월드 정보 수집 (크기는 월드 크기 색인의 마지막 값)
      */
-    private long getWorldSize(World world) {
-        File worldFolder = world.getWorldFolder();
-        return calculateFolderSize(worldFolder);
-    }
-    
-    /**
-     * 폴더 크기 계산
-     */
-    private long calculateFolderSize(File folder) {
-        long size = 0;
-        if (folder.isDirectory()) {
-            File[] files = folder.listFiles();
-            if (files != null) {
-                for (File file : files) {
-                    if (file.isDirectory()) {
-                        size += calculateFolderSize(file);
-                    } else {
-                        size += file.length();
-                    }
-                }
-            }
+    private List<WorldInfo> collectWorlds() {
+        List<World> loadedWorlds = getServer().getWorlds();
+        List<WorldInfo> worlds = new ArrayList<>(loadedWorlds.size());
+        Set<String> worldNames = new HashSet<>();
+        for (World world : loadedWorlds) {
+            worlds.add(new WorldInfo(
+                world.getName(),
+                world.getEnvironment().name().toLowerCase(),
+                worldSizeIndex.getSize(world.getName(), world.getWorldFolder().toPath()),
+                world.getLoadedChunks().length,
+                world.getPlayers().size()
+            ));
+            worldNames.add(world.getName());
         }
-        return size;
+        worldSizeIndex.retainWorlds(worldNames);
+        return worlds;
     }
     
     /**
@@ -526,17 +609,31 @@ public class GameboyConnector extends JavaPlugin {
         result.setSuccess(false);
 
         try {
-            // <player> 대체문자를 실제 플레이어명으로 변환
-            String executedCommand = command.replace("<player>", playerName);
+            // 대체문자(<player>, <uuid>, <world>, <server_code>, <timestamp>)를 실제 값으로 변환
+            CommandTemplate template = CommandPlaceholders.template(command);
+            String executedCommand = CommandPlaceholders.render(template, placeholderContext(template, playerName));
             result.setExecutedCommand(executedCommand);
 
-            // 콘솔에서 명령어 실행
-            boolean success = getServer().dispatchCommand(getServer().getConsoleSender(), executedCommand);
+            // 콘솔 권한으로 명령어 실행 - 출력은 캡처 객체에 모음
+            CommandResultCapture capture = capturePool.acquire();
+            try {
+                result.setTick(commandExecutor.getTickCount());
+                result.setStartedAt(System.nanoTime());
+                boolean success = getServer().dispatchCommand(capture, executedCommand);
+                result.setExecutionNanos(System.nanoTime() - result.getStartedAt());
+                List<String> outputLines = capture.getMessages();
+                if (capture.isTruncated()) {
+                    metrics.increment("command_output.truncated");
+                }
 
-            // 결과 저장 (현재는 출력 캡처 없이 성공/실패만)
-            result.setSuccess(success);
-            result.setOutput(success ? "명령어 실행 완료" : "명령어 실행 실패");
-            result.setOutputLines(new ArrayList<>());
+                // 결과 저장 (출력이 없으면 성공/실패만)
+                result.setSuccess(success);
+                result.setOutput(!outputLines.isEmpty() ? String.join("\n", outputLines)
+                        : success ? "명령어 실행 완료" : "명령어 실행 실패");
+                result.setOutputLines(outputLines);
+            } finally {
+                capturePool.release(capture);
+            }
 
             return result;
 
@@ -548,6 +645,66 @@ public class GameboyConnector extends JavaPlugin {
         }
     }
 
+    /**
+     * 명령어 실행 1회의 대체문자 값 - 플레이어 조회는 템플릿이 <uuid>/<world>를 쓰는 경우에만
+     */
+    private CommandPlaceholders.Context placeholderContext(CommandTemplate template, String playerName) {
+        CommandPlaceholders.Context context = new CommandPlaceholders.Context(playerName);
+        context.setServerCode(serverConfig.getServerCode());
+
+        if (template.uses(CommandTemplate.Placeholder.UUID) || template.uses(CommandTemplate.Placeholder.WORLD)) {
+            Player player = getServer().getPlayerExact(playerName);
+            if (player != null) {
+                context.setPlayerUuid(player.getUniqueId().toString());
+                context.setWorldName(player.getWorld().getName());
+            }
+        }
+        return context;
+    }
+    
+    /**
+     * 웹 명령어 묶음을 메인 스레드 실행기에 넘김 - 틱당 시간 한도 안에서 연달아 실행되며 결과는 명령어마다 future로 전달
+     * 대상 플레이어가 접속하지 않은 명령어는 같은 틱 안에서 바로 보관하므로, 그 사이 접속한 플레이어의 명령어가 남겨지지 않습니다.
+     */
+    @Override
+    public List<CompletableFuture<CommandExecutionResult>> runWebCommands(List<PendingCommand> commands,
+                                                                          Predicate<PendingCommand> deferOffline) {
+        boolean defer = deferOffline != null && getConfig().getBoolean("deferred_commands.enabled", true);
+        List<CompletableFuture<CommandExecutionResult>> futures = new ArrayList<>(commands.size());
+        for (PendingCommand command : commands) {
+            futures.add(commandExecutor.submit(() -> {
+                if (defer && isTargetOffline(command)) {
+                    return deferOffline.test(command) ? deferredResult() : deferFailedResult();
+                }
+                return executeWebCommand(command.getCommandString(), command.getPlayerName());
+            }));
+        }
+        return futures;
+    }
+    
+    /**
+     * <player>가 들어간 명령어의 대상 플레이어가 접속하지 않았는지 (메인 스레드에서 실행 직전에 확인)
+     */
+    private boolean isTargetOffline(PendingCommand command) {
+        return CommandPlaceholders.template(command.getCommandString()).uses(CommandTemplate.Placeholder.PLAYER)
+                && getServer().getPlayerExact(command.getPlayerName()) == null;
+    }
+    
+    private static CommandExecutionResult deferredResult() {
+        CommandExecutionResult result = new CommandExecutionResult();
+        result.setSuccess(false);
+        result.setDeferred(true);
+        result.setOutput("플레이어가 접속하지 않아 접속 시 실행합니다");
+        return result;
+    }
+    
+    private static CommandExecutionResult deferFailedResult() {
+        CommandExecutionResult result = new CommandExecutionResult();
+        result.setSuccess(false);
+        result.setOutput("플레이어가 접속하지 않았고 보류 명령어 보관소가 가득 찼습니다");
+        return result;
+    }
+    
     /**
      * 명령어 실행 결과를 담는 클래스
      */
@@ -556,6 +713,10 @@ public class GameboyConnector extends JavaPlugin {
         private String executedCommand;
         private String output;
         private List<String> outputLines;
+        private boolean deferred; // 대상 플레이어가 접속하지 않아 실행하지 않음 (접속 시 실행)
+        private long tick; // 실행한 틱 번호
+        private long startedAt; // 실행 시작 시각 (System.nanoTime, 실행하지 않았으면 0)
+        private long executionNanos; // dispatchCommand 소요 시간
 
         public boolean isSuccess() { return success; }
         public void setSuccess(boolean success) { this.success = success; }
@@ -568,6 +729,18 @@ public class GameboyConnector extends JavaPlugin {
 
         public List<String> getOutputLines() { return outputLines; }
         public void setOutputLines(List<String> outputLines) { this.outputLines = outputLines; }
+
+        public boolean isDeferred() { return deferred; }
+        public void setDeferred(boolean deferred) { this.deferred = deferred; }
+
+        public long getTick() { return tick; }
+        public void setTick(long tick) { this.tick = tick; }
+
+        public long getStartedAt() { return startedAt; }
+        public void setStartedAt(long startedAt) { this.startedAt = startedAt; }
+
+        public long getExecutionNanos() { return executionNanos; }
+        public void setExecutionNanos(long executionNanos) { this.executionNanos = executionNanos; }
     }
     
     /**
@@ -595,6 +768,10 @@ public class GameboyConnector extends JavaPlugin {
         return logger;
     }
     
+    public ConnectorMetrics getMetrics() {
+        return metrics;
+    }
+    
     public boolean isPluginEnabled() {
         return isEnabled;
     }
@@ -643,6 +820,22 @@ public class GameboyConnector extends JavaPlugin {
         }
     }
     
+    /**
+     * 서버 평균 MSPT 조회 (Paper API 지원, 그 외 서버는 NaN)
+     */
+    private double getServerMspt() {
+        if (averageTickTimeMethod == null) {
+            return Double.NaN;
+        }
+        try {
+            return ((Number) averageTickTimeMethod.invoke(getServer())).doubleValue();
+        } catch (Exception e) {
+            averageTickTimeMethod = null;
+            logger.debug("Paper MSPT API 접근 실패, 틱 간격으로 추정: " + e.getMessage());
+            return Double.NaN;
+        }
+    }
+    
     /**
      * 서버 TPS 측정 (Paper API 지원)
      */
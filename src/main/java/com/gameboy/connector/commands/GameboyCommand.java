@@ -1,15 +1,24 @@
 package com.gameboy.connector.commands;
 
 import com.gameboy.connector.GameboyConnector;
+import com.gameboy.connector.communication.CommandRateLimiter;
+import com.gameboy.connector.metrics.CommandLatencyTracker;
+import com.gameboy.connector.metrics.LatencyHistogram;
 import org.bukkit.ChatColor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * GameBoy Connector 명령어 처리 클래스
  */
 public class GameboyCommand {
     
+    private static final int LATENCY_ROOT_LIMIT = 10; // /gameboy latency에 표시할 명령어 종류 수
+    
     private final GameboyConnector plugin;
     
     public GameboyCommand(GameboyConnector plugin) {
@@ -39,6 +48,12 @@ public class GameboyCommand {
             case "test":
                 handleTest(sender);
                 break;
+            case "metrics":
+                handleMetrics(sender);
+                break;
+            case "latency":
+                handleLatency(sender);
+                break;
             case "help":
                 showHelp(sender);
                 break;
@@ -55,6 +70,8 @@ public class GameboyCommand {
         sender.sendMessage(ChatColor.YELLOW + "/gameboy reload" + ChatColor.WHITE + " - 플러그인 설정 다시 로드");
         sender.sendMessage(ChatColor.YELLOW + "/gameboy info" + ChatColor.WHITE + " - 서버 정보 표시");
         sender.sendMessage(ChatColor.YELLOW + "/gameboy test" + ChatColor.WHITE + " - 웹서버 연결 테스트");
+        sender.sendMessage(ChatColor.YELLOW + "/gameboy metrics" + ChatColor.WHITE + " - 통신 지표 표시");
+        sender.sendMessage(ChatColor.YELLOW + "/gameboy latency" + ChatColor.WHITE + " - 명령어 종류별 대기/실행/보고 시간 표시");
         sender.sendMessage(ChatColor.YELLOW + "/gameboy help" + ChatColor.WHITE + " - 이 도움말 표시");
     }
     
@@ -82,28 +99,62 @@ public class GameboyCommand {
         sender.sendMessage(ChatColor.YELLOW + "플러그인 상태: " + ChatColor.WHITE + (plugin.isPluginEnabled() ? "활성화" : "비활성화"));
         sender.sendMessage(ChatColor.YELLOW + "Java 버전: " + ChatColor.WHITE + System.getProperty("java.version"));
         sender.sendMessage(ChatColor.YELLOW + "서버 버전: " + ChatColor.WHITE + plugin.getServer().getVersion());
+        CommandRateLimiter rateLimiter = plugin.getCommunicator().getRateLimiter();
+        sender.sendMessage(ChatColor.YELLOW + "속도 제한으로 미룬 명령어: " + ChatColor.WHITE + rateLimiter.getThrottledCount()
+                + "건 (대기 중 " + rateLimiter.getPendingCount() + "건)");
+    }
+    
+    private void handleMetrics(CommandSender sender) {
+        Map<String, Number> snapshot = plugin.getMetrics().snapshot();
+        sender.sendMessage(ChatColor.GOLD + "=== GameBoy Connector 지표 ===");
+        if (snapshot.isEmpty()) {
+            sender.sendMessage(ChatColor.GRAY + "수집된 지표가 없습니다.");
+            return;
+        }
+        for (Map.Entry<String, Number> entry : snapshot.entrySet()) {
+            Number value = entry.getValue();
+            String formatted = value instanceof Double ? String.format("%.3f", value.doubleValue()) : value.toString();
+            sender.sendMessage(ChatColor.YELLOW + entry.getKey() + ": " + ChatColor.WHITE + formatted);
+        }
+    }
+    
+    private void handleLatency(CommandSender sender) {
+        List<CommandLatencyTracker.Stats> roots = plugin.getCommunicator().getLatencyTracker().getRoots();
+        sender.sendMessage(ChatColor.GOLD + "=== 명령어 종류별 지연 시간 (p50 / p99 / 최대) ===");
+        if (roots.isEmpty()) {
+            sender.sendMessage(ChatColor.GRAY + "실행된 명령어가 없습니다.");
+            return;
+        }
+        for (int i = 0; i < Math.min(roots.size(), LATENCY_ROOT_LIMIT); i++) {
+            CommandLatencyTracker.Stats stats = roots.get(i);
+            sender.sendMessage(ChatColor.YELLOW + stats.getRoot() + ChatColor.WHITE
+                    + " " + stats.get(CommandLatencyTracker.Stage.EXECUTION).getCount() + "건"
+                    + " | 대기 " + formatLatency(stats.get(CommandLatencyTracker.Stage.QUEUE_WAIT))
+                    + " | 실행 " + formatLatency(stats.get(CommandLatencyTracker.Stage.EXECUTION))
+                    + " | 보고 " + formatLatency(stats.get(CommandLatencyTracker.Stage.UPLOAD)));
+        }
+    }
+    
+    private static String formatLatency(LatencyHistogram histogram) {
+        if (histogram.getCount() == 0) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%.1f / %.1f / %.1fms", histogram.getPercentile(50) / 1000.0,
+                histogram.getPercentile(99) / 1000.0, histogram.getMax() / 1000.0);
     }
     
     private void handleTest(CommandSender sender) {
         sender.sendMessage(ChatColor.YELLOW + "웹서버 연결 테스트 중...");
 
-        // 비동기로 테스트 실행
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
-            try {
-                // testConnection() 메서드 호출
-                boolean success = plugin.getCommunicator().testConnection();
-                plugin.getServer().getScheduler().runTask(plugin, () -> {
-                    if (success) {
-                        sender.sendMessage(ChatColor.GREEN + "웹서버 연결 테스트가 완료되었습니다.");
-                    } else {
-                        sender.sendMessage(ChatColor.RED + "웹서버 연결 테스트 실패");
-                    }
-                });
-            } catch (Exception e) {
-                plugin.getServer().getScheduler().runTask(plugin, () -> {
-                    sender.sendMessage(ChatColor.RED + "웹서버 연결 테스트 실패: " + e.getMessage());
-                });
-            }
+        // 비동기로 테스트 실행 (응답은 콜백으로 받아 메인 스레드에서 출력)
+        plugin.getCommunicator().testConnection().thenAccept(success -> {
+            plugin.getServer().getScheduler().runTask(plugin, () -> {
+                if (success) {
+                    sender.sendMessage(ChatColor.GREEN + "웹서버 연결 테스트가 완료되었습니다.");
+                } else {
+                    sender.sendMessage(ChatColor.RED + "웹서버 연결 테스트 실패");
+                }
+            });
         });
     }
 }
\ No newline at end of file
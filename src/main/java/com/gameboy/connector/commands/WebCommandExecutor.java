@@ -0,0 +1,223 @@
+package com.gameboy.connector.commands;
+
+import com.gameboy.connector.GameboyConnector;
+import com.gameboy.connector.metrics.ConnectorMetrics;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 틱 시간 한도 기반 웹 명령어 실행기
+ * 메인 스레드에서 매 틱 tick()이 호출되며, 대기열의 명령어를 틱당 시간 한도(µs) 안에서 연달아 실행하고
+ * 남은 명령어는 다음 틱으로 넘깁니다. 대량 명령어가 한꺼번에 들어와도 한 틱이 길어지지 않도록 하기 위함입니다.
+ * - 틱 시간 한도는 현재 MSPT(틱당 소요 시간)에 따라 조정: 목표 MSPT를 넘으면 절반으로, 여유가 있고 밀린 명령어가 있으면 조금씩 늘림
+ * - MSPT는 서버가 제공하면(Paper) 그 값을, 아니면 tick() 호출 간격으로 추정
+ * - 대기열은 크기가 제한되며, 가득 차면 새 명령어는 실패로 처리
+ */
+public class WebCommandExecutor {
+
+    private static final double TICK_MILLIS = 50.0; // 20 TPS 기준 틱 간격 (ms)
+    private static final int ADJUST_INTERVAL_TICKS = 20; // 시간 한도 조정 주기 (1초)
+    private static final double GROWTH_FACTOR = 1.25; // 여유가 있을 때 시간 한도 증가 배율
+    private static final double SHRINK_FACTOR = 0.5; // 목표 MSPT 초과 시 시간 한도 감소 배율
+    private static final double HEADROOM_RATIO = 0.8; // MSPT가 목표의 80% 미만이면 여유가 있는 것으로 판단
+    private static final double INTERVAL_WEIGHT = 0.1; // 틱 간격 지수 이동 평균 가중치
+
+    private final BlockingQueue<Job> queue;
+    private final long minBudget; // 나노초
+    private final long maxBudget; // 나노초
+    private final double targetMspt;
+    private final DoubleSupplier serverMspt;
+    private final ConnectorMetrics metrics;
+
+    // 메인 스레드(tick)에서만 갱신, 지표 조회용으로 volatile
+    private volatile long budget; // 나노초
+    private volatile double mspt = TICK_MILLIS;
+    private long lastTickStart = 0;
+    private double averageInterval = TICK_MILLIS;
+    private int ticksSinceAdjust = 0;
+    private long tickCount = 0; // 실행기 시작 후 틱 번호
+    private boolean backlogged = false; // 조정 주기 동안 시간 한도를 다 쓰고도 명령어가 남은 적이 있는지
+    private volatile boolean stopped = false;
+
+    /**
+     * @param serverMspt 서버가 제공하는 평균 MSPT (ms, 제공하지 않으면 NaN)
+     */
+    public WebCommandExecutor(FileConfiguration config, ConnectorMetrics metrics, DoubleSupplier serverMspt) {
+        long minBudgetMicros = Math.max(100, config.getLong("command_execution.min_tick_budget_us", 1000));
+        long maxBudgetMicros = Math.max(minBudgetMicros, config.getLong("command_execution.max_tick_budget_us", 25000));
+        long budgetMicros = config.getLong("command_execution.tick_budget_us", 5000);
+
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, config.getInt("command_execution.queue_capacity", 1000)));
+        this.minBudget = TimeUnit.MICROSECONDS.toNanos(minBudgetMicros);
+        this.maxBudget = TimeUnit.MICROSECONDS.toNanos(maxBudgetMicros);
+        this.budget = TimeUnit.MICROSECONDS.toNanos(Math.min(Math.max(budgetMicros, minBudgetMicros), maxBudgetMicros));
+        this.targetMspt = Math.max(1.0, config.getDouble("command_execution.target_mspt", 45.0));
+        this.serverMspt = serverMspt;
+        this.metrics = metrics;
+
+        metrics.registerGauge("command_executor.queued", queue::size);
+        metrics.registerGauge("command_executor.budget_us", () -> TimeUnit.NANOSECONDS.toMicros(budget));
+        metrics.registerGauge("command_executor.mspt", () -> mspt);
+    }
+
+    /**
+     * 명령어 실행 예약 - 결과는 실행한 틱에 future로 전달 (대기열이 가득 차면 실패한 future)
+     */
+    public CompletableFuture<GameboyConnector.CommandExecutionResult> submit(Supplier<GameboyConnector.CommandExecutionResult> task) {
+        Job job = new Job(task);
+        if (stopped || !queue.offer(job)) {
+            metrics.increment("command_executor.rejected");
+            job.future.completeExceptionally(new RejectedExecutionException(
+                    stopped ? "명령어 실행기가 종료되었습니다" : "명령어 실행 대기열이 가득 찼습니다 (" + queue.size() + "건)"));
+        }
+        return job.future;
+    }
+
+    /**
+     * 틱 1회 처리 - 메인 스레드에서 매 틱 호출
+     * 시간 한도 안에서 대기열의 명령어를 순서대로 실행합니다 (틱마다 최소 1개 실행).
+     */
+    public void tick() {
+        long tickStart = System.nanoTime();
+        tickCount++;
+        observeTick(tickStart);
+
+        if (queue.isEmpty()) {
+            return;
+        }
+
+        long deadline = tickStart + budget;
+        int executed = 0;
+        Job job;
+        while ((job = queue.poll()) != null) {
+            job.run();
+            executed++;
+            if (System.nanoTime() - deadline >= 0) {
+                break;
+            }
+        }
+
+        metrics.add("command_executor.executed", executed);
+        if (!queue.isEmpty()) {
+            backlogged = true;
+            metrics.increment("command_executor.carried_over");
+        }
+    }
+
+    /**
+     * 실행기 종료 - 남은 명령어는 실패 처리
+     */
+    public void stop() {
+        stopped = true;
+        List<Job> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (Job job : remaining) {
+            job.future.completeExceptionally(new RejectedExecutionException("명령어 실행기가 종료되었습니다"));
+        }
+    }
+
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * 현재 틱 번호 (실행기 시작 후, 메인 스레드에서만 조회)
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public long getBudgetMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(budget);
+    }
+
+    /**
+     * MSPT 갱신 및 주기적인 시간 한도 조정
+     */
+    private void observeTick(long tickStart) {
+        if (lastTickStart != 0) {
+            double interval = (tickStart - lastTickStart) / 1_000_000.0;
+            averageInterval += (interval - averageInterval) * INTERVAL_WEIGHT;
+        }
+        lastTickStart = tickStart;
+
+        if (++ticksSinceAdjust < ADJUST_INTERVAL_TICKS) {
+            return;
+        }
+        ticksSinceAdjust = 0;
+
+        // 서버 MSPT가 없으면 틱 간격으로 추정 - 50ms를 넘으면 서버가 밀리고 있다는 뜻
+        double serverValue = serverMspt.getAsDouble();
+        boolean measured = !Double.isNaN(serverValue) && serverValue > 0;
+        mspt = measured ? serverValue : averageInterval;
+        double limit = measured ? targetMspt : Math.max(targetMspt, TICK_MILLIS * 1.05);
+        double headroom = measured ? targetMspt * HEADROOM_RATIO : TICK_MILLIS * 1.01;
+
+        if (mspt > limit) {
+            budget = Math.max(minBudget, (long) (budget * SHRINK_FACTOR));
+        } else if (backlogged && mspt < headroom) {
+            budget = Math.min(maxBudget, (long) (budget * GROWTH_FACTOR));
+        }
+        backlogged = false;
+    }
+
+    /**
+     * 명령어 실행 결과 future - 실행을 시작하기 전에만 취소할 수 있음
+     * 결과를 기다리던 쪽이 시간 초과로 취소하려 해도, 이미 메인 스레드에서 실행을 시작한 명령어는 결과가 그대로 전달됩니다.
+     */
+    public static final class Execution extends CompletableFuture<GameboyConnector.CommandExecutionResult> {
+        private static final int QUEUED = 0;
+        private static final int STARTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+        /**
+         * 실행 시작 표시 - 이미 취소되었으면 false
+         */
+        public boolean start() {
+            return state.compareAndSet(QUEUED, STARTED);
+        }
+
+        /**
+         * 실행을 시작하기 전이면 취소 (시작한 뒤에는 취소하지 않고 false)
+         */
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return state.compareAndSet(QUEUED, CANCELLED) && super.cancel(mayInterruptIfRunning);
+        }
+    }
+
+    /**
+     * 실행 대기 중인 명령어
+     */
+    private static final class Job {
+        private final Supplier<GameboyConnector.CommandExecutionResult> task;
+        private final Execution future = new Execution();
+
+        Job(Supplier<GameboyConnector.CommandExecutionResult> task) {
+            this.task = task;
+        }
+
+        void run() {
+            if (!future.start()) {
+                return; // 대기 중 결과 대기 시간 초과로 취소됨
+            }
+            try {
+                future.complete(task.get());
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.gameboy.connector.communication;
+
+import com.gameboy.connector.metrics.ConnectorMetrics;
+import com.gameboy.connector.utils.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 적응형 명령어 폴링 스케줄러
+ * 명령어를 받은 직후에는 최소 간격으로 빠르게 폴링하고, 대기열이 계속 비어 있으면 최대 간격까지 점점 늘립니다.
+ * 최근 적중률(명령어가 있었던 폴링 비율)이 높을수록 간격을 천천히 늘립니다.
+ */
+public class AdaptivePollScheduler {
+
+    /** 폴링 요청을 보내지 않은 경우의 결과 값 (롱폴링 동작 중, Circuit Open 등) */
+    public static final int SKIPPED = -1;
+
+    private static final long INITIAL_INTERVAL = 5000; // 첫 폴링 및 시작 간격 (5초)
+    private static final long SKIPPED_CHECK_TIME = 5000; // 폴링을 건너뛴 경우 재확인 간격
+    private static final double HIT_RATE_WEIGHT = 0.1; // 적중률 지수 이동 평균 가중치
+
+    private final Supplier<CompletableFuture<Integer>> poller;
+    private final OutboundDispatcher dispatcher;
+    private final long minInterval;
+    private final long maxInterval;
+    private final double decay;
+    private final Logger logger;
+    private final ConnectorMetrics metrics;
+
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private volatile boolean stopped = false;
+
+    // 폴링은 이전 폴링이 끝난 뒤에만 예약되므로 한 번에 하나의 스레드만 갱신
+    private volatile long interval;
+    private volatile double hitRate = 0;
+    private volatile long intervalCap = Long.MAX_VALUE;
+
+    /**
+     * @param poller     폴링 1회 실행 - 받은 명령어 수 또는 SKIPPED를 반환
+     * @param dispatcher 폴링 실행 디스패처 (명령어 수신 우선순위로 실행)
+     * @param decay      빈 응답마다 간격을 늘리는 배율
+     */
+    public AdaptivePollScheduler(Supplier<CompletableFuture<Integer>> poller, OutboundDispatcher dispatcher,
+                                 long minInterval, long maxInterval, double decay,
+                                 Logger logger, ConnectorMetrics metrics) {
+        this.poller = poller;
+        this.dispatcher = dispatcher;
+        this.minInterval = Math.max(50, minInterval);
+        this.maxInterval = Math.max(this.minInterval, maxInterval);
+        this.decay = Math.max(1.0, decay);
+        this.logger = logger;
+        this.metrics = metrics;
+        this.interval = Math.min(Math.max(INITIAL_INTERVAL, this.minInterval), this.maxInterval);
+
+        metrics.registerGauge("poll.interval_ms", () -> interval);
+        metrics.registerGauge("poll.hit_rate", () -> hitRate);
+    }
+
+    /**
+     * 폴링 시작 (첫 폴링은 시작 간격 후)
+     */
+    public void start() {
+        if (!stopped && started.compareAndSet(false, true)) {
+            schedule(interval);
+        }
+    }
+
+    /**
+     * 폴링 종료 (플러그인 비활성화 시)
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    private void poll() {
+        if (stopped) {
+            return;
+        }
+
+        CompletableFuture<Integer> result;
+        try {
+            result = poller.get();
+        } catch (Exception e) {
+            logger.severe("명령어 폴링 실패: " + e.getMessage());
+            result = CompletableFuture.completedFuture(SKIPPED);
+        }
+
+        result.whenComplete((received, error) -> {
+            // 실패는 Circuit Breaker가 처리하므로 간격은 유지
+            schedule(error == null ? nextDelay(received) : interval);
+        });
+    }
+
+    /**
+     * 폴링 결과로 다음 폴링까지의 대기 시간 계산
+     */
+    private long nextDelay(int received) {
+        if (received == SKIPPED) {
+            return SKIPPED_CHECK_TIME;
+        }
+
+        metrics.increment("poll.requests");
+        if (received > 0) {
+            metrics.increment("poll.hits");
+            metrics.add("poll.commands", received);
+            hitRate = hitRate * (1 - HIT_RATE_WEIGHT) + HIT_RATE_WEIGHT;
+            interval = minInterval;
+        } else {
+            hitRate = hitRate * (1 - HIT_RATE_WEIGHT);
+            double growth = 1 + (decay - 1) * (1 - hitRate);
+            interval = Math.min(maxInterval, Math.max(minInterval, (long) (interval * growth)));
+        }
+        return Math.min(interval, intervalCap);
+    }
+
+    private void schedule(long delayMillis) {
+        if (stopped) {
+            return;
+        }
+        dispatcher.submitDelayed(OutboundDispatcher.Priority.COMMAND_FETCH, "command-poll", delayMillis, this::poll);
+    }
+
+    /**
+     * 간격 상한 설정 (폴링에 다른 주기 작업이 포함된 경우, 예: 하트비트)
+     */
+    public void setIntervalCap(long intervalCap) {
+        this.intervalCap = intervalCap;
+    }
+
+    public long getInterval() {
+        return interval;
+    }
+
+    public double getHitRate() {
+        return hitRate;
+    }
+}
@@ -0,0 +1,217 @@
+package com.gameboy.connector.communication;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Writer;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 본문 버퍼 풀
+ * JSON을 재사용 바이트 버퍼에 직접 기록하고, 복사 없이 그대로 요청 본문으로 전송합니다.
+ * 버퍼는 요청이 완료된 뒤에 반환되어야 합니다.
+ */
+public class BodyBufferPool {
+
+    private static final int INITIAL_CAPACITY = 8 * 1024; // 8KB
+    private static final int MAX_RETAINED_CAPACITY = 1024 * 1024; // 1MB 초과 버퍼는 반환 시 폐기
+
+    private final int maxPooled;
+    private final ConcurrentLinkedQueue<Buffer> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    public BodyBufferPool(int maxPooled) {
+        this.maxPooled = Math.max(1, maxPooled);
+    }
+
+    /**
+     * 버퍼 가져오기 (풀이 비어 있으면 새로 생성)
+     */
+    public Buffer acquire() {
+        Buffer buffer = pool.poll();
+        if (buffer == null) {
+            return new Buffer();
+        }
+        pooled.decrementAndGet();
+        return buffer;
+    }
+
+    /**
+     * 버퍼 반환 - 풀이 가득 찼거나 너무 커진 버퍼는 버림
+     */
+    public void release(Buffer buffer) {
+        buffer.reset();
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            return;
+        }
+        if (pooled.incrementAndGet() > maxPooled) {
+            pooled.decrementAndGet();
+            return;
+        }
+        pool.offer(buffer);
+    }
+
+    /**
+     * 재사용 가능한 본문 버퍼 - 문자를 UTF-8로 직접 인코딩하는 Writer를 함께 보관
+     * (OutputStreamWriter는 write(String) 호출마다 char[]를 새로 할당함)
+     */
+    public static class Buffer extends ByteArrayOutputStream {
+        private final Writer writer = new Utf8Writer();
+
+        Buffer() {
+            super(INITIAL_CAPACITY);
+        }
+
+        public Writer writer() {
+            return writer;
+        }
+
+        public int capacity() {
+            return buf.length;
+        }
+
+        public byte[] array() {
+            return buf;
+        }
+
+        /**
+         * 현재 내용을 복사 없이 전송하는 BodyPublisher
+         */
+        public HttpRequest.BodyPublisher publisher() {
+            return new ArrayPublisher(buf, 0, count);
+        }
+
+        private void ensureCapacity(int additional) {
+            int required = count + additional;
+            if (required > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length << 1, required));
+            }
+        }
+
+        /**
+         * UTF-8 인코딩 Writer - 버퍼 배열에 바로 기록하며 추가 할당 없음
+         */
+        private class Utf8Writer extends Writer {
+            private char pendingHighSurrogate = 0;
+
+            @Override
+            public void write(int c) {
+                writeChar((char) c);
+            }
+
+            @Override
+            public void write(char[] chars, int offset, int length) {
+                ensureCapacity(length * 3);
+                for (int i = offset; i < offset + length; i++) {
+                    writeChar(chars[i]);
+                }
+            }
+
+            @Override
+            public void write(String str, int offset, int length) {
+                ensureCapacity(length * 3);
+                for (int i = offset; i < offset + length; i++) {
+                    writeChar(str.charAt(i));
+                }
+            }
+
+            private void writeChar(char c) {
+                ensureCapacity(4);
+                if (pendingHighSurrogate != 0) {
+                    char high = pendingHighSurrogate;
+                    pendingHighSurrogate = 0;
+                    if (Character.isLowSurrogate(c)) {
+                        int codePoint = Character.toCodePoint(high, c);
+                        buf[count++] = (byte) (0xF0 | (codePoint >> 18));
+                        buf[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                        buf[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                        buf[count++] = (byte) (0x80 | (codePoint & 0x3F));
+                        return;
+                    }
+                    buf[count++] = '?'; // 짝이 없는 서로게이트
+                }
+
+                if (c < 0x80) {
+                    buf[count++] = (byte) c;
+                } else if (c < 0x800) {
+                    buf[count++] = (byte) (0xC0 | (c >> 6));
+                    buf[count++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c)) {
+                    pendingHighSurrogate = c;
+                } else if (Character.isLowSurrogate(c)) {
+                    buf[count++] = '?'; // 짝이 없는 서로게이트
+                } else {
+                    buf[count++] = (byte) (0xE0 | (c >> 12));
+                    buf[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buf[count++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+
+            @Override
+            public void flush() {
+                if (pendingHighSurrogate != 0) {
+                    pendingHighSurrogate = 0;
+                    ensureCapacity(1);
+                    buf[count++] = '?';
+                }
+            }
+
+            @Override
+            public void close() {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * 바이트 배열 구간을 ByteBuffer 하나로 감싸서 전달하는 BodyPublisher
+     * (BodyPublishers.ofByteArray는 구독할 때마다 내용을 복사함)
+     */
+    static class ArrayPublisher implements HttpRequest.BodyPublisher {
+        private final byte[] content;
+        private final int offset;
+        private final int length;
+
+        ArrayPublisher(byte[] content, int offset, int length) {
+            this.content = content;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public long contentLength() {
+            return length;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private boolean done = false;
+
+                @Override
+                public synchronized void request(long n) {
+                    if (done) {
+                        return;
+                    }
+                    done = true;
+                    if (n <= 0) {
+                        subscriber.onError(new IllegalArgumentException("요청 수는 0보다 커야 합니다: " + n));
+                        return;
+                    }
+                    if (length > 0) {
+                        subscriber.onNext(ByteBuffer.wrap(content, offset, length));
+                    }
+                    subscriber.onComplete();
+                }
+
+                @Override
+                public synchronized void cancel() {
+                    done = true;
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.gameboy.connector.communication;
+
+import com.gameboy.connector.metrics.ConnectorMetrics;
+
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 요청 본문 압축기
+ * 웹서버가 응답의 Accept-Encoding 헤더로 지원을 알린 인코딩만 사용합니다 (RFC 7694).
+ * deflate_dict 모드는 알려진 JSON 필드명으로 만든 사전을 사용하여 작은 본문도 잘 압축합니다.
+ */
+public class BodyCompressor {
+
+    public static final String ENCODING_GZIP = "gzip";
+    public static final String ENCODING_DEFLATE_DICT = "x-gameboy-deflate-dict";
+
+    /**
+     * deflate_dict 모드 사전 - 웹서버도 같은 바이트열로 inflate해야 합니다.
+     * deflate는 사전의 뒤쪽을 더 가까운 거리로 참조하므로 자주 반복되는 조각을 뒤에 둡니다.
+     */
+    static final byte[] DICTIONARY = ("{\"server_code\":\"GB-\",\"timestamp\":\"\",\"action\":\"batch_status\","
+            + "\"updates\":[{\"queue_id\":,\"status\":\"processing\"},{\"status\":\"completed\","
+            + "\"execution_result\":{\"success\":true,\"player_name\":\"\",\"command\":\"\",\"executed_command\":\"\","
+            + "\"output\":\"명령어 실행 완료\",\"execution_time\":\"\"}}],"
+            + "\"seq\":,\"mode\":\"delta\",\"base_seq\":,\"added\":[],\"removed\":[],\"mode\":\"full\","
+            + "\"online_players\":[],\"total_players\":,"
+            + "\"server_info\":{\"serverCode\":\"GB-\",\"serverName\":\"\",\"internalIp\":\"\",\"externalIp\":\"\","
+            + "\"serverPort\":25565,\"motd\":\"\",\"version\":\"git-Paper- (MC: 1.20.4)\",\"protocolVersion\":765,"
+            + "\"maxPlayers\":,\"onlinePlayers\":,\"tps\":20.0,\"serverUptime\":,\"usedMemory\":,\"totalMemory\":,"
+            + "\"memoryPercentage\":,\"javaVersion\":\"\",\"osInfo\":\"Linux \",\"gamemode\":\"survival\","
+            + "\"difficulty\":\"normal\",\"pvpEnabled\":true,\"whitelistEnabled\":false,\"worldName\":\"world\","
+            + "\"worldSize\":,\"chunksLoaded\":,\"opCount\":,"
+            + "\"plugins\":[{\"name\":\"\",\"version\":\"\",\"enabled\":true},{\"name\":\"\",\"version\":\"\",\"enabled\":true}]},"
+            + "{\"playerId\":\"\",\"playerUuid\":\"\"},{\"playerId\":\"\",\"playerUuid\":\"")
+            .getBytes(StandardCharsets.UTF_8);
+
+    static final String DICTIONARY_ID;
+
+    static {
+        Adler32 adler = new Adler32();
+        adler.update(DICTIONARY);
+        DICTIONARY_ID = Long.toHexString(adler.getValue());
+    }
+
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    /**
+     * 압축 모드 (config.yml web_server.compression)
+     */
+    public enum Mode {
+        NONE, GZIP, DEFLATE_DICT;
+
+        public static Mode fromConfig(String value) {
+            try {
+                return Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (Exception e) {
+                return NONE;
+            }
+        }
+    }
+
+    private final Mode mode;
+    private final int threshold;
+    private final int level;
+    private final ConnectorMetrics metrics;
+    private final ConcurrentLinkedQueue<Worker> workers = new ConcurrentLinkedQueue<>();
+
+    // 웹서버가 받아들이는 인코딩 (응답 헤더로 확인되기 전에는 압축하지 않음)
+    private volatile boolean gzipAccepted = false;
+    private volatile boolean dictionaryAccepted = false;
+
+    public BodyCompressor(Mode mode, int threshold, int level, ConnectorMetrics metrics) {
+        this.mode = mode;
+        this.threshold = Math.max(0, threshold);
+        this.level = Math.max(Deflater.BEST_SPEED, Math.min(Deflater.BEST_COMPRESSION, level));
+        this.metrics = metrics;
+
+        metrics.registerGauge("compression.ratio", () -> {
+            long in = metrics.getCounter("compression.bytes_in");
+            return in > 0 ? (double) metrics.getCounter("compression.bytes_out") / in : 0;
+        });
+        metrics.registerGauge("compression.avg_time_us", () -> {
+            long count = metrics.getCounter("compression.requests");
+            return count > 0 ? (double) metrics.getCounter("compression.time_us") / count : 0;
+        });
+    }
+
+    /**
+     * 이 본문 길이에 사용할 인코딩 (압축하지 않으면 null)
+     */
+    public String selectEncoding(int length) {
+        if (length < threshold) {
+            return null;
+        }
+        if (mode == Mode.DEFLATE_DICT && dictionaryAccepted) {
+            return ENCODING_DEFLATE_DICT;
+        }
+        if (mode != Mode.NONE && gzipAccepted) {
+            return ENCODING_GZIP;
+        }
+        return null;
+    }
+
+    /**
+     * 응답의 Accept-Encoding 헤더로 웹서버의 지원 인코딩 갱신
+     */
+    public void onResponse(HttpHeaders headers) {
+        if (mode == Mode.NONE) {
+            return;
+        }
+        headers.firstValue("Accept-Encoding").ifPresent(value -> {
+            String accepted = value.toLowerCase(Locale.ROOT);
+            gzipAccepted = accepted.contains(ENCODING_GZIP);
+            dictionaryAccepted = accepted.contains(ENCODING_DEFLATE_DICT);
+        });
+    }
+
+    /**
+     * 웹서버가 압축 본문을 거부(415)했을 때 - 다음 Accept-Encoding 응답까지 해당 인코딩 사용 중지
+     */
+    public void reject(String encoding) {
+        if (ENCODING_DEFLATE_DICT.equals(encoding)) {
+            dictionaryAccepted = false;
+        } else {
+            gzipAccepted = false;
+        }
+        metrics.increment("compression.rejected");
+    }
+
+    /**
+     * source 내용을 압축하여 target에 기록
+     */
+    public void compress(BodyBufferPool.Buffer source, BodyBufferPool.Buffer target, String encoding) {
+        long startTime = System.nanoTime();
+        boolean gzip = ENCODING_GZIP.equals(encoding);
+
+        Worker worker = workers.poll();
+        if (worker == null) {
+            worker = new Worker(level);
+        }
+
+        Deflater deflater = gzip ? worker.raw : worker.zlib;
+        try {
+            if (gzip) {
+                target.write(GZIP_HEADER, 0, GZIP_HEADER.length);
+                worker.crc.reset();
+                worker.crc.update(source.array(), 0, source.size());
+            } else {
+                deflater.setDictionary(DICTIONARY);
+            }
+
+            deflater.setInput(source.array(), 0, source.size());
+            deflater.finish();
+            while (!deflater.finished()) {
+                int written = deflater.deflate(worker.scratch);
+                target.write(worker.scratch, 0, written);
+            }
+
+            if (gzip) {
+                writeIntLittleEndian(target, (int) worker.crc.getValue());
+                writeIntLittleEndian(target, source.size());
+            }
+        } finally {
+            deflater.reset();
+            workers.offer(worker);
+        }
+
+        metrics.increment("compression.requests");
+        metrics.add("compression.bytes_in", source.size());
+        metrics.add("compression.bytes_out", target.size());
+        metrics.add("compression.time_us", (System.nanoTime() - startTime) / 1000);
+    }
+
+    private static void writeIntLittleEndian(BodyBufferPool.Buffer target, int value) {
+        target.write(value & 0xff);
+        target.write((value >>> 8) & 0xff);
+        target.write((value >>> 16) & 0xff);
+        target.write((value >>> 24) & 0xff);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * 재사용 압축 작업 단위 - Deflater는 네이티브 메모리를 쓰므로 풀에서 재사용
+     */
+    private static class Worker {
+        private final Deflater raw;
+        private final Deflater zlib;
+        private final CRC32 crc = new CRC32();
+        private final byte[] scratch = new byte[8 * 1024];
+
+        Worker(int level) {
+            this.raw = new Deflater(level, true);
+            this.zlib = new Deflater(level, false);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.gameboy.connector.communication;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 엔드포인트별 Circuit Breaker
+ * 최근 구간의 성공/실패/응답 시간을 잠금 없이 집계하여, 연속 실패나 실패율이 기준을 넘으면 요청을 차단합니다.
+ * 차단 시간이 지나면 시험 요청 1개만 허용하고, 그 결과로 복구(CLOSED) 또는 재차단(OPEN)을 결정합니다.
+ */
+public class CircuitBreaker {
+
+    private static final int BUCKET_COUNT = 10; // 집계 구간을 나누는 칸 수
+
+    /**
+     * 차단기 상태
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 상태 변경 알림
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onStateChange(CircuitBreaker breaker, State from, State to);
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final double failureRateThreshold;
+    private final int minimumRequests;
+    private final long slowCallNanos;
+    private final long openTime;
+    private final long maxOpenTime;
+    private final long bucketTime;
+    private final Listener listener;
+
+    // 시간 칸별 집계 - 칸 번호(epoch)가 바뀌면 해당 칸을 비우고 재사용
+    private final AtomicLongArray bucketEpochs = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLongArray successes = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLongArray failures = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLongArray slowCalls = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLongArray latencySums = new AtomicLongArray(BUCKET_COUNT);
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicReference<Status> status = new AtomicReference<>(new Status(State.CLOSED, 0, 0));
+
+    /**
+     * @param failureThreshold     이 횟수만큼 연속 실패하면 차단
+     * @param failureRateThreshold 구간 내 실패율(0~1)이 이 값 이상이면 차단
+     * @param minimumRequests      실패율 판단에 필요한 구간 내 최소 요청 수
+     * @param slowCallMillis       이 시간 이상 걸린 성공 요청은 실패율 계산 시 실패로 간주
+     * @param windowMillis         집계 구간 길이
+     * @param openMillis           첫 차단 시간 (연속 차단 시 2배씩 증가)
+     * @param maxOpenMillis        최대 차단 시간
+     */
+    public CircuitBreaker(String name, int failureThreshold, double failureRateThreshold, int minimumRequests,
+                          long slowCallMillis, long windowMillis, long openMillis, long maxOpenMillis,
+                          Listener listener) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumRequests = Math.max(1, minimumRequests);
+        this.slowCallNanos = slowCallMillis * 1_000_000L;
+        this.bucketTime = Math.max(1, windowMillis / BUCKET_COUNT);
+        this.openTime = Math.max(1, openMillis);
+        this.maxOpenTime = Math.max(this.openTime, maxOpenMillis);
+        this.listener = listener;
+    }
+
+    /**
+     * 요청 허용 여부 확인
+     * 차단 시간이 지난 뒤에는 한 호출자에게만 시험 요청을 허용합니다.
+     * 허용된 요청은 반드시 onSuccess/onFailure/onIgnored 중 하나로 결과를 알려야 합니다.
+     */
+    public boolean tryAcquire() {
+        long now = System.currentTimeMillis();
+        Status current = status.get();
+
+        switch (current.state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (now < current.since + openDuration(current.trips)) {
+                    return false;
+                }
+                return transition(current, new Status(State.HALF_OPEN, now, current.trips));
+            default:
+                // 시험 요청 결과가 오지 않은 채 차단 시간이 지나면 새 시험 요청 허용
+                if (now - current.since < openTime) {
+                    return false;
+                }
+                return status.compareAndSet(current, new Status(State.HALF_OPEN, now, current.trips));
+        }
+    }
+
+    /**
+     * 요청 성공 기록
+     */
+    public void onSuccess(long latencyNanos) {
+        long now = System.currentTimeMillis();
+        int index = bucket(now);
+        successes.incrementAndGet(index);
+        latencySums.addAndGet(index, latencyNanos);
+        if (latencyNanos >= slowCallNanos) {
+            slowCalls.incrementAndGet(index);
+        }
+        consecutiveFailures.set(0);
+
+        Status current = status.get();
+        if (current.state == State.HALF_OPEN) {
+            if (transition(current, new Status(State.CLOSED, now, 0))) {
+                clearWindow();
+            }
+        } else if (current.state == State.CLOSED && failureRateExceeded(now)) {
+            transition(current, new Status(State.OPEN, now, 1));
+        }
+    }
+
+    /**
+     * 요청 실패 기록
+     */
+    public void onFailure(long latencyNanos) {
+        long now = System.currentTimeMillis();
+        int index = bucket(now);
+        failures.incrementAndGet(index);
+        latencySums.addAndGet(index, latencyNanos);
+        int consecutive = consecutiveFailures.incrementAndGet();
+
+        Status current = status.get();
+        if (current.state == State.HALF_OPEN) {
+            transition(current, new Status(State.OPEN, now, current.trips + 1));
+        } else if (current.state == State.CLOSED
+                && (consecutive >= failureThreshold || failureRateExceeded(now))) {
+            transition(current, new Status(State.OPEN, now, 1));
+        }
+    }
+
+    /**
+     * 결과를 집계하지 않는 요청 (동시 요청 한도 초과로 거절 등)
+     * 시험 요청이었다면 다음 호출자가 바로 시험할 수 있도록 되돌립니다.
+     */
+    public void onIgnored() {
+        Status current = status.get();
+        if (current.state == State.HALF_OPEN) {
+            status.compareAndSet(current,
+                    new Status(State.OPEN, System.currentTimeMillis() - openDuration(current.trips), current.trips));
+        }
+    }
+
+    private boolean transition(Status from, Status to) {
+        if (!status.compareAndSet(from, to)) {
+            return false;
+        }
+        if (from.state != to.state && listener != null) {
+            listener.onStateChange(this, from.state, to.state);
+        }
+        return true;
+    }
+
+    private long openDuration(int trips) {
+        long duration = openTime << Math.min(Math.max(trips - 1, 0), 20);
+        return Math.min(duration, maxOpenTime);
+    }
+
+    /**
+     * 현재 시간의 칸 번호 - 오래된 칸이면 비우고 재사용
+     * 비우는 순간 다른 스레드가 기록한 값은 유실될 수 있으나 근사 집계이므로 허용
+     */
+    private int bucket(long now) {
+        long epoch = now / bucketTime;
+        int index = (int) (epoch % BUCKET_COUNT);
+        long current = bucketEpochs.get(index);
+        if (current != epoch && bucketEpochs.compareAndSet(index, current, epoch)) {
+            successes.set(index, 0);
+            failures.set(index, 0);
+            slowCalls.set(index, 0);
+            latencySums.set(index, 0);
+        }
+        return index;
+    }
+
+    private void clearWindow() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bucketEpochs.set(i, -1);
+        }
+    }
+
+    private boolean failureRateExceeded(long now) {
+        long[] totals = windowTotals(now);
+        long requests = totals[0] + totals[1];
+        return requests >= minimumRequests
+                && (double) (totals[1] + totals[2]) / requests >= failureRateThreshold;
+    }
+
+    /**
+     * 구간 내 합계 [성공, 실패, 느린 성공, 응답 시간 합]
+     */
+    private long[] windowTotals(long now) {
+        long oldestEpoch = now / bucketTime - BUCKET_COUNT + 1;
+        long[] totals = new long[4];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (bucketEpochs.get(i) >= oldestEpoch) {
+                totals[0] += successes.get(i);
+                totals[1] += failures.get(i);
+                totals[2] += slowCalls.get(i);
+                totals[3] += latencySums.get(i);
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * 구간 내 실패율 (느린 성공 포함, 0~1)
+     */
+    public double getFailureRate() {
+        long[] totals = windowTotals(System.currentTimeMillis());
+        long requests = totals[0] + totals[1];
+        return requests > 0 ? (double) (totals[1] + totals[2]) / requests : 0;
+    }
+
+    /**
+     * 구간 내 평균 응답 시간 (ms)
+     */
+    public double getAverageLatencyMillis() {
+        long[] totals = windowTotals(System.currentTimeMillis());
+        long requests = totals[0] + totals[1];
+        return requests > 0 ? totals[3] / 1_000_000.0 / requests : 0;
+    }
+
+    public State getState() {
+        return status.get().state;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 현재 차단 시간 (ms)
+     */
+    public long getOpenDuration() {
+        return openDuration(status.get().trips);
+    }
+
+    /**
+     * 상태 스냅샷 - 한 번의 CAS로 상태와 시각을 함께 교체
+     */
+    private static final class Status {
+        private final State state;
+        private final long since;
+        private final int trips; // 복구 없이 연속으로 차단된 횟수
+
+        private Status(State state, long since, int trips) {
+            this.state = state;
+            this.since = since;
+            this.trips = trips;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.gameboy.connector.communication;
+
+import com.gameboy.connector.metrics.ConnectorMetrics;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 웹 명령어 실행 속도 제한 (전체 + 대상 플레이어별 토큰 버킷)
+ * 한도를 넘은 명령어는 버리지 않고 토큰이 생기는 시각까지 실행을 미룹니다.
+ * 실행 시각을 미리 예약하므로, 미뤄진 명령어도 같은 플레이어 안에서는 받은 순서대로 실행됩니다.
+ * - 버킷은 상태 하나(다음 토큰 시각)를 CAS로 갱신하므로 잠금이 없음 (GCRA 방식)
+ * - 오래 쓰지 않아 가득 찬 플레이어 버킷은 주기적으로 정리
+ */
+public class CommandRateLimiter {
+
+    private static final int PRUNE_THRESHOLD = 1024; // 플레이어 버킷이 이보다 많으면 정리
+    private static final long PRUNE_INTERVAL = TimeUnit.SECONDS.toNanos(10); // 정리 최소 간격
+
+    private final TokenBucket global; // 비활성화 시 null
+    private final double playerRate;
+    private final int playerBurst;
+    private final ConcurrentHashMap<String, TokenBucket> players = new ConcurrentHashMap<>();
+    private final AtomicLong nextPruneAt = new AtomicLong(System.nanoTime());
+    private final ConnectorMetrics metrics;
+
+    private final AtomicLong throttled = new AtomicLong(); // 미뤄진 명령어 누적 수
+    private final AtomicInteger pending = new AtomicInteger(); // 실행 시각을 기다리는 명령어 수
+    private volatile long lastDelayMillis = 0;
+
+    public CommandRateLimiter(FileConfiguration config, ConnectorMetrics metrics) {
+        boolean enabled = config.getBoolean("rate_limit.enabled", true);
+        double globalRate = config.getDouble("rate_limit.global_per_second", 20.0);
+        int globalBurst = config.getInt("rate_limit.global_burst", 100);
+        this.global = enabled && globalRate > 0 ? new TokenBucket(globalRate, globalBurst) : null;
+        this.playerRate = enabled ? config.getDouble("rate_limit.player_per_second", 5.0) : 0;
+        this.playerBurst = config.getInt("rate_limit.player_burst", 20);
+        this.metrics = metrics;
+
+        metrics.registerGauge("rate_limit.throttled", throttled::get);
+        metrics.registerGauge("rate_limit.pending", pending::get);
+        metrics.registerGauge("rate_limit.players", players::size);
+        metrics.registerGauge("rate_limit.last_delay_ms", () -> lastDelayMillis);
+    }
+
+    /**
+     * 명령어 1건의 실행 시각 예약 - 지금부터 기다려야 하는 시간 (나노초, 0이면 바로 실행)
+     * 0보다 크면 실행 시점에 released()를 호출해야 합니다.
+     */
+    public long reserve(String playerName) {
+        long now = System.nanoTime();
+        long allowedAt = now;
+        boolean playerLimited = false;
+
+        if (playerRate > 0 && playerName != null) {
+            allowedAt = playerBucket(playerName, now).reserve(now);
+            playerLimited = allowedAt > now;
+        }
+        if (global != null) {
+            allowedAt = global.reserve(allowedAt);
+        }
+
+        long delay = allowedAt - now;
+        if (delay <= 0) {
+            return 0;
+        }
+
+        throttled.incrementAndGet();
+        pending.incrementAndGet();
+        lastDelayMillis = TimeUnit.NANOSECONDS.toMillis(delay);
+        metrics.increment(playerLimited ? "rate_limit.throttled_player" : "rate_limit.throttled_global");
+        return delay;
+    }
+
+    /**
+     * 미뤄진 명령어의 실행 시각 도래
+     */
+    public void released() {
+        pending.decrementAndGet();
+    }
+
+    public long getThrottledCount() {
+        return throttled.get();
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    private TokenBucket playerBucket(String playerName, long now) {
+        String key = playerName.toLowerCase(Locale.ROOT);
+        TokenBucket bucket = players.get(key);
+        if (bucket == null) {
+            if (players.size() >= PRUNE_THRESHOLD) {
+                prune(now);
+            }
+            TokenBucket created = new TokenBucket(playerRate, playerBurst);
+            bucket = players.putIfAbsent(key, created);
+            if (bucket == null) {
+                bucket = created;
+            }
+        }
+        return bucket;
+    }
+
+    /**
+     * 가득 찬(최근에 쓰지 않은) 플레이어 버킷 정리 - 다시 만들어도 같은 상태
+     */
+    private void prune(long now) {
+        long due = nextPruneAt.get();
+        if (now - due < 0 || !nextPruneAt.compareAndSet(due, now + PRUNE_INTERVAL)) {
+            return;
+        }
+        players.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    /**
+     * 토큰 버킷 - 다음 토큰이 생기는 이론 시각(TAT) 하나로 상태를 표현
+     * 초당 rate개씩 토큰이 채워지고 최대 burst개까지 모이며, 요청은 TAT - (burst - 1) × 간격 이후에 허용됩니다.
+     */
+    static final class TokenBucket {
+        private final long interval; // 토큰 1개가 채워지는 시간 (나노초)
+        private final long tolerance; // 연달아 허용되는 추가 요청 시간 (나노초)
+        private final AtomicLong theoreticalArrival;
+
+        TokenBucket(double ratePerSecond, int burst) {
+            this.interval = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond));
+            this.tolerance = interval * (Math.max(1, burst) - 1);
+            this.theoreticalArrival = new AtomicLong(System.nanoTime());
+        }
+
+        /**
+         * from 이후 가장 이른 허용 시각을 예약 (토큰 1개 사용)
+         */
+        long reserve(long from) {
+            while (true) {
+                long tat = theoreticalArrival.get();
+                long allowedAt = Math.max(from, tat - tolerance);
+                long next = Math.max(tat, allowedAt) + interval;
+                if (theoreticalArrival.compareAndSet(tat, next)) {
+                    return allowedAt;
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            return theoreticalArrival.get() - now <= 0;
+        }
+    }
+}
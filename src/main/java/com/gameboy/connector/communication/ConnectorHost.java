@@ -0,0 +1,47 @@
+package com.gameboy.connector.communication;
+
+import com.gameboy.connector.GameboyConnector;
+import com.gameboy.connector.metrics.ConnectorMetrics;
+import com.gameboy.connector.models.PendingCommand;
+import com.gameboy.connector.utils.Logger;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+/**
+ * 웹서버 통신자가 사용하는 플러그인 기능
+ * 플러그인(GameboyConnector)이 구현하며, 부하 테스트에서는 서버 없이 동작하는 구현으로 대체됩니다.
+ */
+public interface ConnectorHost {
+
+    FileConfiguration getConfig();
+
+    Logger getPluginLogger();
+
+    ConnectorMetrics getMetrics();
+
+    /**
+     * 전송 대기함 등 파일을 저장하는 폴더
+     */
+    File getDataFolder();
+
+    /**
+     * 웹 명령어 여러 개를 한 번에 메인 스레드로 넘겨 순서대로 연달아 실행
+     * 결과는 명령어마다 future로 전달되며, 반환 목록은 명령어 목록과 같은 순서입니다.
+     *
+     * @param deferOffline <player> 대상 플레이어가 접속하지 않았을 때 메인 스레드에서 접속 여부를 확인한 직후 호출 (null이면 보류하지 않음)
+     *                     - 명령어를 보관했으면 true (보류 결과 isDeferred 전달), 보관하지 못했으면 false (실패 결과 전달)
+     */
+    List<CompletableFuture<GameboyConnector.CommandExecutionResult>> runWebCommands(List<PendingCommand> commands,
+                                                                                    Predicate<PendingCommand> deferOffline);
+
+    /**
+     * 웹 명령어 하나를 메인 스레드에서 실행 - 결과는 future로 전달
+     */
+    default CompletableFuture<GameboyConnector.CommandExecutionResult> runWebCommand(String command, String playerName) {
+        return runWebCommands(List.of(new PendingCommand(0, playerName, command)), null).get(0);
+    }
+}
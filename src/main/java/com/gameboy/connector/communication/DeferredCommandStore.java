@@ -0,0 +1,368 @@
+package com.gameboy.connector.communication;
+
+import com.gameboy.connector.metrics.ConnectorMetrics;
+import com.gameboy.connector.models.PendingCommand;
+import com.gameboy.connector.utils.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 접속하지 않은 플레이어의 보류 명령어 보관소
+ * <player>가 들어간 명령어를 대상 플레이어가 접속하지 않은 상태에서 받으면 실행하지 않고 보관해 두었다가
+ * 플레이어가 접속하면 실행합니다.
+ * - 플레이어명(대소문자 무시)별 목록과 queue_id 색인을 메모리에 두므로 접속 시 조회는 파일을 읽지 않음
+ * - 파일에는 추가/완료 레코드를 끝에 덧붙이기만 하고, 활성화 시 한 번 읽어 색인을 복구
+ *   (완료된 레코드가 남은 레코드보다 많아지면 남은 레코드만 다시 씀)
+ * - 접속 시 꺼낸 명령어는 실행 결과가 확정될 때까지 queue_id 색인에 남아 있어 다시 받아도 중복 보관되지 않음
+ * - 메모리 상태는 호출한 스레드(주로 메인 스레드)에서 바로 바꾸고, 파일 기록은 JournalWriter 스레드에서 순서대로 처리
+ */
+public class DeferredCommandStore {
+
+    // 레코드 형식: [전체 길이 int][queue_id int][CRC32 int][본문]
+    // 본문: [종류 byte] + 추가 레코드는 [보관 시각 long][플레이어명][명령어] (문자열은 [UTF-8 길이 int][UTF-8 바이트])
+    private static final int HEADER_SIZE = 4 + 4 + 4;
+    private static final int TYPE_ADD = 1;
+    private static final int TYPE_DONE = 2;
+    private static final int MIN_COMPACT_RECORDS = 64; // 이보다 적게 쌓였으면 다시 쓰지 않음
+
+    private final Path file;
+    private final int maxSize;
+    private final JournalWriter writer;
+    private final Logger logger;
+    private final CRC32 crc = new CRC32(); // 기록 스레드에서만 사용 (열 때 제외)
+
+    // 보관 중인 명령어 (실행 중 포함) - 보관 순서 유지
+    private final Map<Integer, Entry> byQueueId = new LinkedHashMap<>();
+    // 실행을 기다리는 명령어 - 소문자 플레이어명별, 보관 순서
+    private final Map<String, List<Entry>> byPlayer = new HashMap<>();
+
+    private FileChannel channel; // 기록 스레드에서만 접근 (열 때 제외)
+    private boolean persistent = false; // 파일 기록 여부
+    private int deadRecords = 0; // 파일에 남은 완료된 명령어의 레코드 수 (추가 + 완료)
+
+    private DeferredCommandStore(Path file, int maxSize, JournalWriter writer, Logger logger) {
+        this.file = file;
+        this.maxSize = maxSize;
+        this.writer = writer;
+        this.logger = logger;
+    }
+
+    /**
+     * 보관소 열기 - 기존 파일이 있으면 복구 후 다시 씀 (file이 null이면 메모리에만 보관)
+     */
+    public static DeferredCommandStore open(Path file, int maxSize, JournalWriter writer, Logger logger, ConnectorMetrics metrics) {
+        DeferredCommandStore store = new DeferredCommandStore(file, Math.max(1, maxSize), writer, logger);
+        metrics.registerGauge("deferred.size", store::size);
+        if (file == null) {
+            return store;
+        }
+
+        try {
+            store.replay();
+            store.rewrite(new ArrayList<>(store.byQueueId.values()));
+            store.persistent = true;
+            if (store.size() > 0) {
+                logger.info("접속 대기 중인 보류 명령어 " + store.size() + "건을 복구했습니다.");
+            }
+        } catch (IOException e) {
+            store.closeChannel();
+            logger.severe("보류 명령어 파일을 열 수 없습니다. 재시작하면 보류 명령어가 사라집니다: " + e.getMessage());
+        }
+        return store;
+    }
+
+    /**
+     * 명령어 보관 - 이미 보관 중이면 true, 보관소가 가득 차면 false
+     */
+    public synchronized boolean defer(PendingCommand command, long now) {
+        if (byQueueId.containsKey(command.getQueueId())) {
+            return true;
+        }
+        if (byQueueId.size() >= maxSize) {
+            return false;
+        }
+
+        // 레코드를 먼저 만든 뒤 보관 (기록할 수 없는 명령어가 메모리에만 남지 않도록)
+        Entry entry = new Entry(command, now);
+        byte[] record = encodeAdd(entry);
+        byQueueId.put(entry.command.getQueueId(), entry);
+        byPlayer.computeIfAbsent(key(entry.command.getPlayerName()), ignored -> new ArrayList<>()).add(entry);
+        append(entry.command.getQueueId(), record);
+        return true;
+    }
+
+    /**
+     * 보관 중인 명령어인지 (실행 중 포함)
+     */
+    public synchronized boolean contains(int queueId) {
+        return byQueueId.containsKey(queueId);
+    }
+
+    /**
+     * 플레이어의 보류 명령어를 보관 순서대로 꺼냄 - 실행 결과가 확정되면 complete, 다시 미뤄지면 restore 호출
+     */
+    public synchronized List<Entry> take(String playerName) {
+        List<Entry> entries = byPlayer.remove(key(playerName));
+        return entries != null ? entries : Collections.emptyList();
+    }
+
+    /**
+     * 꺼낸 명령어를 다시 실행 대기 상태로 (실행 전에 플레이어가 나간 경우 등) - 꺼낸 명령어마다 한 번만 호출
+     */
+    public synchronized void restore(Entry entry) {
+        if (byQueueId.get(entry.command.getQueueId()) != entry) {
+            return; // 그 사이 만료됨
+        }
+        List<Entry> entries = byPlayer.computeIfAbsent(key(entry.command.getPlayerName()), ignored -> new ArrayList<>());
+        int index = entries.size();
+        while (index > 0 && entries.get(index - 1).deferredAt > entry.deferredAt) {
+            index--;
+        }
+        entries.add(index, entry);
+    }
+
+    /**
+     * 실행 결과가 확정된 명령어 삭제
+     */
+    public synchronized void complete(int queueId) {
+        if (byQueueId.remove(queueId) == null) {
+            return;
+        }
+        markDone(queueId);
+    }
+
+    /**
+     * 보관 시각이 cutoff 이전인 실행 대기 명령어를 꺼내서 삭제 (실행 중인 명령어는 제외)
+     */
+    public synchronized List<Entry> expire(long cutoff) {
+        List<Entry> expired = new ArrayList<>();
+        Iterator<List<Entry>> players = byPlayer.values().iterator();
+        while (players.hasNext()) {
+            List<Entry> entries = players.next();
+            // 플레이어별 목록은 보관 순서이므로 앞에서부터 확인
+            int count = 0;
+            while (count < entries.size() && entries.get(count).deferredAt < cutoff) {
+                count++;
+            }
+            if (count == 0) {
+                continue;
+            }
+            List<Entry> head = entries.subList(0, count);
+            expired.addAll(head);
+            head.clear();
+            if (entries.isEmpty()) {
+                players.remove();
+            }
+        }
+
+        for (Entry entry : expired) {
+            byQueueId.remove(entry.command.getQueueId());
+            markDone(entry.command.getQueueId());
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return byQueueId.size();
+    }
+
+    /**
+     * 보관소 닫기 (플러그인 비활성화 시) - 앞서 맡긴 파일 기록을 마친 뒤 닫힘
+     */
+    public synchronized void close() {
+        if (!persistent) {
+            return;
+        }
+        persistent = false;
+        writer.execute(this::closeChannel, "보류 명령어 파일 닫기 실패");
+    }
+
+    private static String key(String playerName) {
+        return playerName.toLowerCase(Locale.ROOT);
+    }
+
+    private void markDone(int queueId) {
+        deadRecords += 2;
+        if (persistent && deadRecords >= MIN_COMPACT_RECORDS && deadRecords > byQueueId.size()) {
+            List<Entry> snapshot = new ArrayList<>(byQueueId.values());
+            deadRecords = 0;
+            writer.execute(() -> rewrite(snapshot), "보류 명령어 파일 정리 실패");
+            return;
+        }
+        append(queueId, new byte[]{TYPE_DONE});
+    }
+
+    // ===== 파일 =====
+
+    /**
+     * 레코드 추가를 기록 스레드에 맡김
+     */
+    private void append(int queueId, byte[] body) {
+        if (!persistent) {
+            return;
+        }
+        writer.execute(() -> {
+            if (channel != null) {
+                writeRecord(channel, queueId, body);
+            }
+        }, "보류 명령어 저장 실패");
+    }
+
+    /**
+     * 기존 파일 읽기 - 손상되었거나 기록이 끝나지 않은 레코드에서 중단
+     */
+    private void replay() throws IOException {
+        if (!Files.exists(file) || Files.size(file) == 0) {
+            return;
+        }
+
+        byte[] data = Files.readAllBytes(file);
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        int offset = 0;
+        while (offset + HEADER_SIZE < data.length) {
+            int length = buffer.getInt(offset);
+            if (length <= HEADER_SIZE || offset + length > data.length) {
+                break;
+            }
+            int queueId = buffer.getInt(offset + 4);
+            if (buffer.getInt(offset + 8) != checksum(queueId, data, offset + HEADER_SIZE, length - HEADER_SIZE)) {
+                logger.warning("보류 명령어 파일의 손상된 레코드를 건너뜁니다 (위치 " + offset + ")");
+                break;
+            }
+
+            if (data[offset + HEADER_SIZE] == TYPE_DONE) {
+                byQueueId.remove(queueId);
+            } else {
+                Entry entry = decodeAdd(queueId, data, offset + HEADER_SIZE, length - HEADER_SIZE);
+                byQueueId.put(queueId, entry);
+            }
+            offset += length;
+        }
+
+        for (Entry entry : byQueueId.values()) {
+            byPlayer.computeIfAbsent(key(entry.command.getPlayerName()), ignored -> new ArrayList<>()).add(entry);
+        }
+    }
+
+    /**
+     * 보관 중인 명령어만 새 파일에 쓴 뒤 원자적으로 교체하고, 이후 기록은 새 파일 끝에 추가 (기록 스레드)
+     */
+    private void rewrite(List<Entry> snapshot) throws IOException {
+        closeChannel();
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel output = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Entry entry : snapshot) {
+                writeRecord(output, entry.command.getQueueId(), encodeAdd(entry));
+            }
+            output.force(false);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void writeRecord(FileChannel output, int queueId, byte[] body) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + body.length);
+        record.putInt(HEADER_SIZE + body.length);
+        record.putInt(queueId);
+        record.putInt(checksum(queueId, body, 0, body.length));
+        record.put(body);
+        record.flip();
+        while (record.hasRemaining()) {
+            output.write(record);
+        }
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.warning("보류 명령어 파일 닫기 실패: " + e.getMessage());
+        }
+        channel = null;
+    }
+
+    private int checksum(int queueId, byte[] body, int offset, int length) {
+        crc.reset();
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            crc.update(queueId >>> shift);
+        }
+        crc.update(body, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] encodeAdd(Entry entry) {
+        byte[] playerName = entry.command.getPlayerName().getBytes(StandardCharsets.UTF_8);
+        byte[] command = entry.command.getCommandString().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer body = ByteBuffer.allocate(1 + 8 + 4 + playerName.length + 4 + command.length);
+        body.put((byte) TYPE_ADD);
+        body.putLong(entry.deferredAt);
+        body.putInt(playerName.length).put(playerName);
+        body.putInt(command.length).put(command);
+        return body.array();
+    }
+
+    private static Entry decodeAdd(int queueId, byte[] data, int offset, int length) throws IOException {
+        ByteBuffer body = ByteBuffer.wrap(data, offset, length);
+        body.get();
+        long deferredAt = body.getLong();
+        String playerName = readString(body);
+        String command = readString(body);
+        return new Entry(new PendingCommand(queueId, playerName, command), deferredAt);
+    }
+
+    private static String readString(ByteBuffer body) throws IOException {
+        if (body.remaining() < 4) {
+            throw new IOException("레코드가 잘렸습니다");
+        }
+        int length = body.getInt();
+        if (length < 0 || length > body.remaining()) {
+            throw new IOException("문자열 길이가 잘못되었습니다 (" + length + ")");
+        }
+        String value = new String(body.array(), body.position(), length, StandardCharsets.UTF_8);
+        body.position(body.position() + length);
+        return value;
+    }
+
+    /**
+     * 보관 중인 명령어
+     */
+    public static final class Entry {
+        private final PendingCommand command;
+        private final long deferredAt; // 보관 시각 (ms)
+
+        Entry(PendingCommand command, long deferredAt) {
+            this.command = command;
+            this.deferredAt = deferredAt;
+        }
+
+        public PendingCommand getCommand() {
+            return command;
+        }
+
+        public long getDeferredAt() {
+            return deferredAt;
+        }
+    }
+}
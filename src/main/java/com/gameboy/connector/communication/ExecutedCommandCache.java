@@ -0,0 +1,395 @@
+package com.gameboy.connector.communication;
+
+import com.gameboy.connector.metrics.ConnectorMetrics;
+import com.gameboy.connector.models.CommandStatusUpdate;
+import com.gameboy.connector.utils.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 실행 완료된 명령어 기록 (중복 실행 방지)
+ * 결과 보고가 실패하면 웹서버가 같은 queue_id를 다시 보내므로, 최근 실행한 명령어의 최종 상태를 보관해 두고
+ * 다시 받은 명령어는 실행하지 않고 보관한 상태로 응답합니다.
+ * - queue_id는 int 그대로 개방 주소 해시 테이블로 찾음 (박싱 없음)
+ * - 최대 capacity개를 기록 순서대로 링 버퍼에 보관하고, 가득 차면 가장 오래된 기록부터 버림
+ * - 기록은 파일 끝에 추가되므로 실행 도중 서버가 종료되어도 다음 활성화 시 복구됨
+ *   (파일은 보관 개수의 2배만큼 쌓이면 남은 기록만 다시 씀)
+ * - 메모리 기록은 호출한 스레드에서 바로 하고, 파일 기록은 JournalWriter 스레드에서 순서대로 처리
+ *   (메인 스레드에서 실행 완료 직후 호출해도 파일 I/O가 없음)
+ */
+public class ExecutedCommandCache {
+
+    // 레코드 형식: [전체 길이 int][queue_id int][CRC32 int][본문]
+    // 본문: [플래그 byte][상태][있는 문자열 필드마다 값] (문자열은 [UTF-8 길이 int][UTF-8 바이트]) - 기록 도중 종료된 마지막 레코드는 길이/CRC로 걸러짐
+    private static final int HEADER_SIZE = 4 + 4 + 4;
+    private static final int MAX_STORED_OUTPUT = 1024; // 보관하는 실행 출력 최대 길이 (문자)
+
+    private static final int FLAG_RESULT = 1;
+    private static final int FLAG_SUCCESS = 1 << 1;
+    private static final int FLAG_FIRST_FIELD = 1 << 2; // 이후 비트는 문자열 필드 존재 여부
+
+    private final Path file;
+    private final JournalWriter writer;
+    private final Logger logger;
+    private final CRC32 crc = new CRC32(); // 기록 스레드에서만 사용 (열 때 제외)
+
+    // 링 버퍼 - 기록 순서대로 보관
+    private final int capacity;
+    private final int[] queueIds;
+    private final CommandStatusUpdate[] results;
+    private int head = 0; // 가장 오래된 기록 위치
+    private int size = 0;
+
+    // 개방 주소 해시 테이블 (선형 탐사) - 값은 링 버퍼 위치 + 1, 0은 빈 칸
+    private final int[] table;
+    private final int mask;
+
+    private FileChannel channel; // 기록 스레드에서만 접근 (열 때 제외)
+    private boolean persistent = false; // 파일 기록 여부
+    private int appendedRecords = 0; // 마지막으로 다시 쓰기를 예약한 뒤 추가된 레코드 수
+
+    private ExecutedCommandCache(Path file, int capacity, JournalWriter writer, Logger logger) {
+        this.file = file;
+        this.writer = writer;
+        this.capacity = capacity;
+        this.logger = logger;
+        this.queueIds = new int[capacity];
+        this.results = new CommandStatusUpdate[capacity];
+        this.table = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+        this.mask = table.length - 1;
+    }
+
+    /**
+     * 기록 열기 - 기존 파일이 있으면 복구 후 다시 씀 (file이 null이면 메모리에만 보관)
+     */
+    public static ExecutedCommandCache open(Path file, int capacity, JournalWriter writer, Logger logger, ConnectorMetrics metrics) {
+        ExecutedCommandCache cache = new ExecutedCommandCache(file, Math.max(16, capacity), writer, logger);
+        metrics.registerGauge("dedupe.size", cache::size);
+        if (file == null) {
+            return cache;
+        }
+
+        try {
+            cache.replay();
+            cache.rewrite(cache.snapshot());
+            cache.persistent = true;
+            if (cache.size > 0) {
+                logger.info("실행 완료된 명령어 기록 " + cache.size + "건을 복구했습니다.");
+            }
+        } catch (IOException e) {
+            cache.closeChannel();
+            logger.severe("실행 기록 파일을 열 수 없습니다. 재시작 후에는 중복 실행을 막지 못합니다: " + e.getMessage());
+        }
+        return cache;
+    }
+
+    /**
+     * 이미 실행한 명령어의 최종 상태 (없으면 null)
+     */
+    public synchronized CommandStatusUpdate get(int queueId) {
+        int index = find(queueId);
+        return index >= 0 ? results[index] : null;
+    }
+
+    /**
+     * 실행 완료된 명령어의 최종 상태 기록 - 메모리에 바로 반영하고 파일 기록은 기록 스레드에 맡김
+     */
+    public synchronized void record(CommandStatusUpdate update) {
+        CommandStatusUpdate stored = trimOutput(update);
+        int index = find(update.getQueueId());
+        if (index >= 0) {
+            results[index] = stored;
+        } else {
+            insert(update.getQueueId(), stored);
+        }
+
+        if (!persistent) {
+            return;
+        }
+        if (appendedRecords >= capacity) {
+            List<CommandStatusUpdate> snapshot = snapshot();
+            appendedRecords = 0;
+            writer.execute(() -> rewrite(snapshot), "실행 기록 저장 실패");
+        } else {
+            appendedRecords++;
+            writer.execute(() -> append(stored), "실행 기록 저장 실패");
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 기록 닫기 (플러그인 비활성화 시) - 앞서 맡긴 파일 기록을 마친 뒤 닫힘
+     */
+    public synchronized void close() {
+        if (!persistent) {
+            return;
+        }
+        persistent = false;
+        writer.execute(this::closeChannel, "실행 기록 파일 닫기 실패");
+    }
+
+    // ===== 해시 테이블 =====
+
+    private static int hash(int queueId) {
+        int h = queueId * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * queue_id의 링 버퍼 위치 (없으면 -1)
+     */
+    private int find(int queueId) {
+        for (int slot = hash(queueId) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            if (queueIds[index] == queueId) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(int queueId, CommandStatusUpdate update) {
+        if (size == capacity) {
+            // 가장 오래된 기록 버림
+            unlink(queueIds[head]);
+            results[head] = null;
+            head = (head + 1) % capacity;
+            size--;
+        }
+
+        int index = (head + size) % capacity;
+        queueIds[index] = queueId;
+        results[index] = update;
+        size++;
+
+        int slot = hash(queueId) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = index + 1;
+    }
+
+    /**
+     * 해시 테이블에서 삭제 - 뒤따르는 항목을 당겨 탐사 경로를 유지 (삭제 표시 없음)
+     */
+    private void unlink(int queueId) {
+        int slot = hash(queueId) & mask;
+        while (queueIds[table[slot] - 1] != queueId) {
+            slot = (slot + 1) & mask;
+        }
+
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (table[next] == 0) {
+                break;
+            }
+            int home = hash(queueIds[table[next] - 1]) & mask;
+            // home이 (slot, next] 구간 밖이면 빈 칸으로 당겨도 찾을 수 있음
+            boolean between = slot <= next ? (slot < home && home <= next) : (slot < home || home <= next);
+            if (!between) {
+                table[slot] = table[next];
+                slot = next;
+            }
+        }
+        table[slot] = 0;
+    }
+
+    // ===== 파일 =====
+
+    /**
+     * 기존 파일 읽기 - 손상되었거나 기록이 끝나지 않은 레코드에서 중단
+     */
+    private void replay() throws IOException {
+        if (!Files.exists(file) || Files.size(file) == 0) {
+            return;
+        }
+
+        byte[] data = Files.readAllBytes(file);
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        int offset = 0;
+        while (offset + HEADER_SIZE <= data.length) {
+            int length = buffer.getInt(offset);
+            if (length < HEADER_SIZE || offset + length > data.length) {
+                break;
+            }
+            int queueId = buffer.getInt(offset + 4);
+            if (buffer.getInt(offset + 8) != checksum(queueId, data, offset + HEADER_SIZE, length - HEADER_SIZE)) {
+                logger.warning("실행 기록의 손상된 레코드를 건너뜁니다 (위치 " + offset + ")");
+                break;
+            }
+
+            CommandStatusUpdate update = decode(queueId, data, offset + HEADER_SIZE, length - HEADER_SIZE);
+            int index = find(queueId);
+            if (index >= 0) {
+                results[index] = update;
+            } else {
+                insert(queueId, update);
+            }
+            offset += length;
+        }
+    }
+
+    /**
+     * 보관 중인 기록 (오래된 순서) - 다시 쓰기용
+     */
+    private List<CommandStatusUpdate> snapshot() {
+        List<CommandStatusUpdate> snapshot = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            snapshot.add(results[(head + i) % capacity]);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 기록 1건을 파일 끝에 추가 (기록 스레드)
+     */
+    private void append(CommandStatusUpdate update) throws IOException {
+        if (channel != null) {
+            writeRecord(channel, update);
+        }
+    }
+
+    /**
+     * 보관 중인 기록만 새 파일에 쓴 뒤 원자적으로 교체하고, 이후 기록은 새 파일 끝에 추가 (기록 스레드)
+     * 다시 쓰기를 예약한 뒤 맡긴 기록은 새 파일에 추가되며, 같은 queue_id가 두 번 남아도 복구 시 나중 것이 적용됩니다.
+     */
+    private void rewrite(List<CommandStatusUpdate> snapshot) throws IOException {
+        closeChannel();
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel output = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (CommandStatusUpdate update : snapshot) {
+                writeRecord(output, update);
+            }
+            output.force(false);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void writeRecord(FileChannel output, CommandStatusUpdate update) throws IOException {
+        byte[] body = encode(update);
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + body.length);
+        record.putInt(HEADER_SIZE + body.length);
+        record.putInt(update.getQueueId());
+        record.putInt(checksum(update.getQueueId(), body, 0, body.length));
+        record.put(body);
+        record.flip();
+        while (record.hasRemaining()) {
+            output.write(record);
+        }
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.warning("실행 기록 파일 닫기 실패: " + e.getMessage());
+        }
+        channel = null;
+    }
+
+    private int checksum(int queueId, byte[] body, int offset, int length) {
+        crc.reset();
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            crc.update(queueId >>> shift);
+        }
+        crc.update(body, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] encode(CommandStatusUpdate update) throws IOException {
+        String[] fields = {update.getPlayerName(), update.getCommand(), update.getExecutedCommand(),
+                update.getOutput(), update.getExecutionTime()};
+        int flags = (update.hasResult() ? FLAG_RESULT : 0) | (update.isSuccess() ? FLAG_SUCCESS : 0);
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                flags |= FLAG_FIRST_FIELD << i;
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(flags);
+            writeString(out, update.getStatus());
+            for (String field : fields) {
+                if (field != null) {
+                    writeString(out, field);
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 문자열 기록 - [UTF-8 길이 int][UTF-8 바이트] (writeUTF의 64KB 제한 없이 긴 명령어도 저장)
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new IOException("문자열 길이가 잘못되었습니다 (" + length + ")");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static CommandStatusUpdate decode(int queueId, byte[] data, int offset, int length) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, offset, length));
+        int flags = in.readUnsignedByte();
+        CommandStatusUpdate update = new CommandStatusUpdate(queueId, readString(in));
+        String[] fields = new String[5];
+        for (int i = 0; i < fields.length; i++) {
+            if ((flags & (FLAG_FIRST_FIELD << i)) != 0) {
+                fields[i] = readString(in);
+            }
+        }
+        if ((flags & FLAG_RESULT) != 0) {
+            update.setResult((flags & FLAG_SUCCESS) != 0, fields[0], fields[1], fields[2], fields[3], fields[4]);
+        }
+        return update;
+    }
+
+    /**
+     * 보관용 사본 - 긴 실행 출력은 앞부분만 보관
+     */
+    private static CommandStatusUpdate trimOutput(CommandStatusUpdate update) {
+        String output = update.getOutput();
+        if (output == null || output.length() <= MAX_STORED_OUTPUT) {
+            return update;
+        }
+        CommandStatusUpdate trimmed = new CommandStatusUpdate(update.getQueueId(), update.getStatus());
+        trimmed.setResult(update.isSuccess(), update.getPlayerName(), update.getCommand(), update.getExecutedCommand(),
+                output.substring(0, MAX_STORED_OUTPUT), update.getExecutionTime());
+        return trimmed;
+    }
+}
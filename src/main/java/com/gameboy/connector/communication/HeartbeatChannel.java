@@ -0,0 +1,225 @@
+package com.gameboy.connector.communication;
+
+import com.gameboy.connector.models.CommandStatusUpdate;
+import com.gameboy.connector.models.ServerInfo;
+import com.gameboy.connector.utils.Logger;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 하트비트 채널
+ * 플레이어 목록 변경분, 서버 정보, 명령어 상태 업데이트, 명령어 폴링을 요청 하나로 묶어 전송합니다.
+ * 웹서버가 응답의 capabilities로 heartbeat를 알린 경우에만 사용되며,
+ * 지원하지 않으면 기존 엔드포인트(플레이어 목록/서버 정보/명령어)로 전송합니다.
+ */
+public class HeartbeatChannel {
+
+    static final String ENDPOINT = "/plugin-heartbeat.php";
+    static final String CAPABILITY_HEARTBEAT = "heartbeat";
+    private static final long FALLBACK_RETRY_TIME = 300000; // 하트비트 거부 후 5분간 기존 엔드포인트 사용
+
+    private final WebServerCommunicator communicator;
+    private final JsonPayloads payloads;
+    private final PlayerPresenceTracker presenceTracker;
+    private final ServerInfoTracker serverInfoTracker;
+    private final Logger logger;
+    private final boolean enabled;
+
+    private volatile boolean supported = false;
+    private volatile long retryAfter = 0;
+    private final AtomicBoolean inFlight = new AtomicBoolean(false);
+
+    // 다음 하트비트에 포함할 항목 (서버 정보는 최신 1건, 명령어 상태는 명령어별 마지막 상태)
+    private ServerInfo stagedServerInfo;
+    private final Map<Integer, CommandStatusUpdate> stagedStatuses = new LinkedHashMap<>();
+
+    public HeartbeatChannel(WebServerCommunicator communicator, JsonPayloads payloads,
+                            PlayerPresenceTracker presenceTracker, ServerInfoTracker serverInfoTracker,
+                            Logger logger, boolean enabled) {
+        this.communicator = communicator;
+        this.payloads = payloads;
+        this.presenceTracker = presenceTracker;
+        this.serverInfoTracker = serverInfoTracker;
+        this.logger = logger;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 하트비트 모드 사용 여부 (설정에서 켜져 있고 웹서버가 지원하는 경우)
+     */
+    public boolean isActive() {
+        return enabled && supported;
+    }
+
+    /**
+     * 기존 엔드포인트 응답의 capabilities 반영 - heartbeat가 있으면 하트비트 모드로 전환
+     */
+    void onCapabilities(boolean advertised) {
+        if (enabled && advertised && !supported && System.currentTimeMillis() >= retryAfter) {
+            supported = true;
+            logger.info("웹서버가 하트비트를 지원하여 통합 요청 모드로 전환합니다.");
+        }
+    }
+
+    /**
+     * 서버 정보를 다음 하트비트에 포함 (이전에 대기 중인 정보는 교체)
+     */
+    synchronized void stageServerInfo(ServerInfo serverInfo) {
+        stagedServerInfo = serverInfo;
+    }
+
+    /**
+     * 명령어 상태를 다음 하트비트에 포함 (같은 명령어의 이전 상태는 교체)
+     */
+    synchronized void stageStatus(CommandStatusUpdate update) {
+        stagedStatuses.remove(update.getQueueId());
+        stagedStatuses.put(update.getQueueId(), update);
+    }
+
+    synchronized boolean hasStagedStatuses() {
+        return !stagedStatuses.isEmpty();
+    }
+
+    /**
+     * 하트비트 1회 전송
+     * 보낼 항목이 없고 폴링도 하지 않으면 요청을 보내지 않습니다.
+     *
+     * @param poll 응답으로 대기 중인 명령어를 받을지 여부 (롱폴링 동작 중에는 false)
+     * @return 받은 명령어 수 (폴링하지 않았거나 요청을 보내지 않았으면 AdaptivePollScheduler.SKIPPED)
+     */
+    public CompletableFuture<Integer> send(boolean poll) {
+        if (!inFlight.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(AdaptivePollScheduler.SKIPPED);
+        }
+
+        long now = System.currentTimeMillis();
+        PlayerPresenceTracker.PresenceUpdate players = presenceTracker.prepareUpdate(now);
+        ServerInfo staged;
+        List<CommandStatusUpdate> statuses;
+        synchronized (this) {
+            staged = stagedServerInfo;
+            stagedServerInfo = null;
+            statuses = new ArrayList<>(stagedStatuses.values());
+            stagedStatuses.clear();
+        }
+        // 서버 정보는 바뀐 항목만 포함 (바뀐 항목이 없으면 생략)
+        ServerInfoTracker.ServerInfoUpdate serverInfo = staged != null ? serverInfoTracker.prepareUpdate(staged, now) : null;
+
+        if (!poll && players == null && serverInfo == null && statuses.isEmpty()) {
+            inFlight.set(false);
+            return CompletableFuture.completedFuture(AdaptivePollScheduler.SKIPPED);
+        }
+
+        // Circuit Breaker 확인 - 열려 있으면 서버 정보/명령어 상태는 전송 대기함으로
+        CircuitBreaker breaker = communicator.breaker(ENDPOINT);
+        if (!breaker.tryAcquire()) {
+            inFlight.set(false);
+            fail(players, serverInfo, statuses, true);
+            return CompletableFuture.completedFuture(AdaptivePollScheduler.SKIPPED);
+        }
+
+        return communicator.trackResult(breaker,
+                    communicator.sendRequest(ENDPOINT, payloads.heartbeat(players, serverInfo, statuses, poll)),
+                    "하트비트 전송 실패")
+                .handle((response, error) -> {
+                    inFlight.set(false);
+                    if (error != null) {
+                        boolean retryable = WebServerCommunicator.isRetryable(error);
+                        if (!retryable) {
+                            retryAfter = System.currentTimeMillis() + FALLBACK_RETRY_TIME;
+                            fallBack("웹서버가 하트비트 요청을 거부했습니다");
+                        }
+                        fail(players, serverInfo, statuses, retryable);
+                        throw new CompletionException(error);
+                    }
+                    return onResponse(communicator.parseResponse(response), players, serverInfo, poll);
+                })
+                .thenCompose(received -> received);
+    }
+
+    /**
+     * 하트비트 응답 처리 - 플레이어 목록/서버 정보 순서 번호 확인 후 받은 명령어 실행
+     */
+    private CompletableFuture<Integer> onResponse(JsonObject responseJson, PlayerPresenceTracker.PresenceUpdate players,
+                                                  ServerInfoTracker.ServerInfoUpdate serverInfo, boolean poll) {
+        if (!communicator.hasCapability(responseJson, CAPABILITY_HEARTBEAT)) {
+            fallBack("웹서버가 하트비트를 더 이상 지원하지 않습니다");
+        }
+
+        if (players != null) {
+            JsonObject playerJson = responseJson.getAsJsonObject("player_list");
+            boolean resyncRequested = playerJson != null
+                    && communicator.isResyncRequested(playerJson, players.getSequence());
+            presenceTracker.setDeltaSupported(
+                    communicator.hasCapability(responseJson, WebServerCommunicator.CAPABILITY_PLAYER_DELTA));
+            presenceTracker.complete(players, true, resyncRequested, System.currentTimeMillis());
+        }
+
+        if (serverInfo != null) {
+            JsonObject serverInfoJson = responseJson.getAsJsonObject("server_info");
+            boolean resyncRequested = serverInfoJson != null
+                    && communicator.isResyncRequested(serverInfoJson, serverInfo.getSequence());
+            serverInfoTracker.setDeltaSupported(
+                    communicator.hasCapability(responseJson, WebServerCommunicator.CAPABILITY_SERVER_INFO_DELTA));
+            serverInfoTracker.complete(serverInfo, true, resyncRequested, System.currentTimeMillis());
+            communicator.onServerInfoDelivered();
+        }
+
+        if (!poll) {
+            return CompletableFuture.completedFuture(AdaptivePollScheduler.SKIPPED);
+        }
+        int received = WebServerCommunicator.countPendingCommands(responseJson);
+        return communicator.executePendingCommands(responseJson).thenApply(ignored -> received);
+    }
+
+    /**
+     * 전송하지 못한 항목 처리
+     * 재시도 가능한 실패는 전송 대기함에 보관하고, 하트비트가 거부된 경우에는 기존 엔드포인트로 다시 보냅니다.
+     * 플레이어 목록과 서버 정보는 다음 전송 시 전체 정보로 대체됩니다.
+     */
+    private void fail(PlayerPresenceTracker.PresenceUpdate players, ServerInfoTracker.ServerInfoUpdate serverInfoUpdate,
+                      List<CommandStatusUpdate> statuses, boolean retryable) {
+        if (players != null) {
+            presenceTracker.complete(players, false, false, System.currentTimeMillis());
+        }
+        ServerInfo serverInfo = null;
+        if (serverInfoUpdate != null) {
+            serverInfoTracker.complete(serverInfoUpdate, false, false, System.currentTimeMillis());
+            serverInfo = serverInfoUpdate.getServerInfo();
+        }
+
+        if (retryable) {
+            if (serverInfo != null) {
+                communicator.deferServerInfo(serverInfo);
+            }
+            for (CommandStatusUpdate update : statuses) {
+                communicator.deferStatus(update);
+            }
+            return;
+        }
+
+        if (serverInfo != null) {
+            communicator.sendServerInfo(serverInfo);
+        }
+        if (!statuses.isEmpty()) {
+            communicator.sendStatuses(statuses);
+        }
+    }
+
+    /**
+     * 기존 엔드포인트 모드로 전환 - 이후 기존 엔드포인트 응답에 heartbeat가 다시 보이면 재전환
+     */
+    private void fallBack(String reason) {
+        if (supported) {
+            supported = false;
+            logger.warning(reason + ". 기존 엔드포인트로 전환합니다.");
+        }
+    }
+}
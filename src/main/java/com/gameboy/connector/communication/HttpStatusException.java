@@ -0,0 +1,27 @@
+package com.gameboy.connector.communication;
+
+import java.io.IOException;
+
+/**
+ * 웹서버가 2xx 이외의 상태 코드로 응답했을 때 발생하는 예외
+ */
+public class HttpStatusException extends IOException {
+
+    private final int statusCode;
+
+    public HttpStatusException(int statusCode) {
+        super("HTTP " + statusCode);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * 클라이언트 오류(4xx) 여부 - 웹서버가 요청 형식을 지원하지 않는 경우
+     */
+    public boolean isClientError() {
+        return statusCode >= 400 && statusCode < 500;
+    }
+}
@@ -0,0 +1,260 @@
+package com.gameboy.connector.communication;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비동기 HTTP 전송 계층
+ * HttpClient.sendAsync 기반으로 동시 요청 수를 제한하며, 네트워크 대기 중 스레드를 점유하지 않습니다.
+ */
+public class HttpTransport {
+
+    private static final String USER_AGENT = "GameboyConnector/1.0";
+
+    private final String baseUrl;
+    private final String serverCode;
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+
+    // 동시 요청 제한 - 한도를 넘는 요청은 스레드가 아닌 대기열에서 기다림
+    // 대기열은 우선순위(명령어 결과 > 명령어 수신 > 플레이어 목록 > 서버 정보) 순, 같은 우선순위는 도착 순
+    private final int maxInFlight;
+    private final int maxQueued;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong arrivals = new AtomicLong();
+    private final PriorityBlockingQueue<Waiting> waiting = new PriorityBlockingQueue<>();
+
+    // 요청 본문 버퍼 재사용 및 압축
+    private final BodyBufferPool bufferPool;
+    private final BodyCompressor compressor;
+
+    public HttpTransport(String baseUrl, String serverCode, Duration connectTimeout, Duration requestTimeout,
+                         int maxInFlight, int maxQueued, BodyCompressor compressor) {
+        this.baseUrl = baseUrl;
+        this.serverCode = serverCode;
+        this.requestTimeout = requestTimeout;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.maxQueued = Math.max(1, maxQueued);
+        this.bufferPool = new BodyBufferPool(this.maxInFlight * 2);
+        this.compressor = compressor;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+
+    /**
+     * 요청 본문 기록 함수 - 본문 버퍼의 UTF-8 Writer에 직접 기록
+     */
+    @FunctionalInterface
+    public interface BodyWriter {
+        void writeTo(Writer writer) throws IOException;
+    }
+
+    /**
+     * JSON 본문 POST 요청
+     * 본문은 풀에서 가져온 버퍼에 기록되어 복사 없이 전송되고, 요청이 끝나면 버퍼가 반환됩니다.
+     * 웹서버가 지원하는 인코딩이 있고 본문이 임계값 이상이면 압축하여 전송합니다.
+     */
+    public CompletableFuture<HttpResponse<String>> postJson(String endpoint, BodyWriter body) {
+        BodyBufferPool.Buffer buffer = bufferPool.acquire();
+        BodyBufferPool.Buffer compressed = null;
+        String encoding;
+        try {
+            body.writeTo(buffer.writer());
+            buffer.writer().flush();
+
+            encoding = compressor.selectEncoding(buffer.size());
+            if (encoding != null) {
+                compressed = bufferPool.acquire();
+                compressor.compress(buffer, compressed, encoding);
+            }
+        } catch (Exception e) {
+            bufferPool.release(buffer);
+            if (compressed != null) {
+                bufferPool.release(compressed);
+            }
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<HttpResponse<String>> call;
+        if (compressed == null) {
+            call = postBody(endpoint, buffer, null);
+        } else {
+            // 압축 본문이 거부되면(415) 해당 인코딩을 끄고 원본으로 한 번 더 전송
+            call = postBody(endpoint, compressed, encoding).thenCompose(response -> {
+                if (response.statusCode() != 415) {
+                    return CompletableFuture.completedFuture(response);
+                }
+                compressor.reject(encoding);
+                return postBody(endpoint, buffer, null);
+            });
+        }
+
+        BodyBufferPool.Buffer compressedBuffer = compressed;
+        return call.whenComplete((response, error) -> {
+            bufferPool.release(buffer);
+            if (compressedBuffer != null) {
+                bufferPool.release(compressedBuffer);
+            }
+        });
+    }
+
+    private CompletableFuture<HttpResponse<String>> postBody(String endpoint, BodyBufferPool.Buffer buffer, String encoding) {
+        HttpRequest.Builder builder = newRequest(endpoint)
+                .header("Content-Type", "application/json")
+                .POST(buffer.publisher());
+        if (encoding != null) {
+            builder.header("Content-Encoding", encoding);
+            if (BodyCompressor.ENCODING_DEFLATE_DICT.equals(encoding)) {
+                builder.header("X-Compression-Dictionary", BodyCompressor.DICTIONARY_ID);
+            }
+        }
+        return send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * GET 요청 (endpoint에 쿼리 문자열 포함 가능)
+     */
+    public CompletableFuture<HttpResponse<String>> get(String endpoint) {
+        HttpRequest request = newRequest(endpoint)
+                .GET()
+                .build();
+        return send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * 공통 헤더가 설정된 요청 빌더 생성
+     */
+    public HttpRequest.Builder newRequest(String endpoint) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + endpoint))
+                .header("X-Server-Code", serverCode)
+                .header("User-Agent", USER_AGENT)
+                .timeout(requestTimeout);
+    }
+
+    /**
+     * 요청 전송 - 동시 요청 한도 내에서 즉시 전송하고, 초과분은 우선순위 대기열에 넣음
+     * 대기열까지 가득 차면 RejectedExecutionException으로 즉시 실패합니다.
+     */
+    public <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            result.completeExceptionally(new RejectedExecutionException(
+                "동시 요청 한도 초과 (진행 중: " + inFlight.get() + ")"));
+            return result;
+        }
+
+        OutboundDispatcher.Priority priority =
+                OutboundDispatcher.Priority.forRequest(request.method(), request.uri().getPath());
+        waiting.add(new Waiting(priority.ordinal(), arrivals.incrementAndGet(),
+                () -> dispatch(request, handler, result)));
+        drain();
+        return result;
+    }
+
+    private <T> void dispatch(HttpRequest request, HttpResponse.BodyHandler<T> handler,
+                              CompletableFuture<HttpResponse<T>> result) {
+        CompletableFuture<HttpResponse<T>> call;
+        try {
+            call = httpClient.sendAsync(request, handler);
+        } catch (Exception e) {
+            release();
+            result.completeExceptionally(e);
+            return;
+        }
+
+        call.whenComplete((response, error) -> {
+            release();
+            if (response != null) {
+                compressor.onResponse(response.headers());
+            }
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(response);
+            }
+        });
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    /**
+     * 여유 슬롯만큼 대기열의 요청을 꺼내 전송
+     */
+    private void drain() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxInFlight) {
+                return;
+            }
+            if (!inFlight.compareAndSet(current, current + 1)) {
+                continue;
+            }
+
+            Waiting next = waiting.poll();
+            if (next == null) {
+                inFlight.decrementAndGet();
+                if (waiting.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+
+            queued.decrementAndGet();
+            next.task.run();
+        }
+    }
+
+    /**
+     * 대기 중인 요청 - 우선순위, 도착 순서로 정렬
+     */
+    private static final class Waiting implements Comparable<Waiting> {
+        private final int priority;
+        private final long arrival;
+        private final Runnable task;
+
+        private Waiting(int priority, long arrival, Runnable task) {
+            this.priority = priority;
+            this.arrival = arrival;
+            this.task = task;
+        }
+
+        @Override
+        public int compareTo(Waiting other) {
+            if (priority != other.priority) {
+                return Integer.compare(priority, other.priority);
+            }
+            return Long.compare(arrival, other.arrival);
+        }
+    }
+
+    // Getter 메서드들
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+}
@@ -0,0 +1,75 @@
+package com.gameboy.connector.communication;
+
+import com.gameboy.connector.utils.Logger;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저널 파일 기록 스레드
+ * 실행 기록/보류 명령어 보관소는 메모리 상태만 호출한 스레드에서 바로 바꾸고, 파일 기록(추가/다시 쓰기)은 이 스레드에 맡깁니다.
+ * - 메인 스레드에서 호출해도 파일 I/O나 fsync로 틱이 밀리지 않음
+ * - 한 스레드가 맡긴 순서대로 기록하므로, 여러 보관소에 걸친 기록 순서도 유지됨
+ *   (실행 기록이 보류 명령어 삭제보다 먼저 파일에 남음)
+ */
+public class JournalWriter {
+
+    private static final long CLOSE_TIMEOUT = 5; // 종료 시 남은 기록을 기다리는 최대 시간 (초)
+
+    /**
+     * 파일 기록 작업
+     */
+    public interface Task {
+        void run() throws IOException;
+    }
+
+    private final Logger logger;
+    private final ExecutorService executor;
+
+    public JournalWriter(Logger logger) {
+        this.logger = logger;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "GameboyConnector-JournalWriter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 기록 작업 예약 - 실패는 로그만 남김 (종료 후에는 무시)
+     *
+     * @param failureMessage 실패 시 로그 앞부분
+     */
+    public void execute(Task task, String failureMessage) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (IOException e) {
+                    logger.severe(failureMessage + ": " + e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.debug(failureMessage + ": 기록 스레드 종료됨");
+        }
+    }
+
+    /**
+     * 남은 기록을 마친 뒤 종료 (플러그인 비활성화 시)
+     */
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(CLOSE_TIMEOUT, TimeUnit.SECONDS)) {
+                logger.warning("저널 기록이 " + CLOSE_TIMEOUT + "초 안에 끝나지 않았습니다.");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.gameboy.connector.communication;
+
+import com.gameboy.connector.models.CommandStatusUpdate;
+import com.gameboy.connector.models.PlayerInfo;
+import com.gameboy.connector.models.ServerInfo;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 요청 본문 작성기
+ * 웹서버로 보내는 JSON을 JsonWriter로 본문 버퍼에 바로 기록합니다.
+ * 중간 JsonObject 트리나 String을 만들지 않습니다.
+ */
+public class JsonPayloads {
+
+    private final Gson gson;
+    private final String serverCode;
+    private final TypeAdapter<PlayerInfo> playerAdapter;
+    private final TypeAdapter<ServerInfo> serverInfoAdapter;
+
+    public JsonPayloads(Gson gson, String serverCode) {
+        this.gson = gson;
+        this.serverCode = serverCode;
+        this.playerAdapter = gson.getAdapter(PlayerInfo.class);
+        this.serverInfoAdapter = gson.getAdapter(ServerInfo.class);
+    }
+
+    /**
+     * 기록 함수 - Gson 설정(HTML 이스케이프, null 생략)이 적용된 JsonWriter를 받음
+     */
+    @FunctionalInterface
+    public interface JsonBody {
+        void write(JsonWriter out) throws IOException;
+    }
+
+    /**
+     * JsonBody를 전송 계층의 BodyWriter로 변환
+     */
+    public HttpTransport.BodyWriter body(JsonBody body) {
+        return writer -> {
+            JsonWriter out = gson.newJsonWriter(writer);
+            body.write(out);
+            out.flush();
+        };
+    }
+
+    /**
+     * 이미 만들어진 JSON 트리 전송 (테스트/종료 알림 등 작은 요청용)
+     */
+    public HttpTransport.BodyWriter element(JsonElement element) {
+        return body(out -> gson.toJson(element, out));
+    }
+
+    /**
+     * 플레이어 목록 (전체 또는 변경분)
+     */
+    public HttpTransport.BodyWriter playerUpdate(PlayerPresenceTracker.PresenceUpdate update, String timestamp) {
+        return body(out -> {
+            out.beginObject();
+            out.name("server_code").value(serverCode);
+            out.name("timestamp").value(timestamp);
+            writePlayerUpdate(out, update);
+            out.endObject();
+        });
+    }
+
+    /**
+     * 하트비트 - 보낼 항목만 포함 (null이거나 비어 있는 항목은 생략)
+     */
+    public HttpTransport.BodyWriter heartbeat(PlayerPresenceTracker.PresenceUpdate players,
+                                              ServerInfoTracker.ServerInfoUpdate serverInfo,
+                                              List<CommandStatusUpdate> updates, boolean poll) {
+        String timestamp = Instant.now().toString();
+        return body(out -> {
+            out.beginObject();
+            out.name("server_code").value(serverCode);
+            out.name("timestamp").value(timestamp);
+            out.name("poll").value(poll);
+            if (players != null) {
+                out.name("player_list");
+                out.beginObject();
+                writePlayerUpdate(out, players);
+                out.endObject();
+            }
+            if (serverInfo != null) {
+                out.name("server_info");
+                out.beginObject();
+                writeServerInfoUpdate(out, serverInfo);
+                out.endObject();
+            }
+            if (!updates.isEmpty()) {
+                out.name("updates");
+                out.beginArray();
+                for (CommandStatusUpdate update : updates) {
+                    writeStatusUpdate(out, update);
+                }
+                out.endArray();
+            }
+            out.endObject();
+        });
+    }
+
+    /**
+     * 서버 정보 (전체 또는 변경분)
+     */
+    public HttpTransport.BodyWriter serverInfoUpdate(ServerInfoTracker.ServerInfoUpdate update, String timestamp) {
+        return body(out -> {
+            out.beginObject();
+            out.name("server_code").value(serverCode);
+            out.name("timestamp").value(timestamp);
+            writeServerInfoUpdate(out, update);
+            out.endObject();
+        });
+    }
+
+    /**
+     * 서버 정보 전체 (순서 번호 없음 - 전송 대기함 보관용)
+     */
+    public HttpTransport.BodyWriter serverInfo(ServerInfo serverInfo, String timestamp) {
+        return body(out -> {
+            out.beginObject();
+            out.name("server_code").value(serverCode);
+            out.name("timestamp").value(timestamp);
+            out.name("server_info");
+            serverInfoAdapter.write(out, serverInfo);
+            out.endObject();
+        });
+    }
+
+    /**
+     * 명령어 상태 업데이트 1건
+     */
+    public HttpTransport.BodyWriter statusUpdate(CommandStatusUpdate update) {
+        return body(out -> writeStatusUpdate(out, update));
+    }
+
+    /**
+     * 명령어 상태 일괄 업데이트
+     */
+    public HttpTransport.BodyWriter statusBatch(List<CommandStatusUpdate> updates) {
+        return body(out -> {
+            out.beginObject();
+            out.name("server_code").value(serverCode);
+            out.name("action").value("batch_status");
+            out.name("updates");
+            out.beginArray();
+            for (CommandStatusUpdate update : updates) {
+                writeStatusUpdate(out, update);
+            }
+            out.endArray();
+            out.endObject();
+        });
+    }
+
+    /**
+     * 전송 대기함에 보관된 명령어 상태(JSON 객체 문자열)를 일괄 업데이트로 전송
+     */
+    public HttpTransport.BodyWriter statusBatchRaw(List<String> updates) {
+        return body(out -> {
+            out.beginObject();
+            out.name("server_code").value(serverCode);
+            out.name("action").value("batch_status");
+            out.name("updates");
+            out.beginArray();
+            for (String update : updates) {
+                out.jsonValue(update);
+            }
+            out.endArray();
+            out.endObject();
+        });
+    }
+
+    /**
+     * 이미 직렬화된 본문 그대로 전송 (전송 대기함 재전송용)
+     */
+    public static HttpTransport.BodyWriter raw(String json) {
+        return writer -> writer.write(json);
+    }
+
+    /**
+     * 본문을 문자열로 기록 (전송 대기함 보관용 - 장애 중에만 사용)
+     */
+    public static String render(HttpTransport.BodyWriter body) throws IOException {
+        StringWriter writer = new StringWriter();
+        body.writeTo(writer);
+        return writer.toString();
+    }
+
+    /**
+     * 플레이어 목록 필드 기록 (전체 또는 변경분)
+     */
+    private void writePlayerUpdate(JsonWriter out, PlayerPresenceTracker.PresenceUpdate update) throws IOException {
+        out.name("seq").value(update.getSequence());
+        if (update.isFull()) {
+            out.name("mode").value("full");
+            out.name("online_players");
+            writePlayers(out, update.getPlayers());
+        } else {
+            out.name("mode").value("delta");
+            out.name("base_seq").value(update.getBaseSequence());
+            out.name("added");
+            writePlayers(out, update.getPlayers());
+            out.name("removed");
+            out.beginArray();
+            for (String uuid : update.getRemoved()) {
+                out.value(uuid);
+            }
+            out.endArray();
+        }
+        out.name("total_players").value(update.getTotalPlayers());
+    }
+
+    /**
+     * 서버 정보 필드 기록 (전체 또는 바뀐 그룹의 필드만)
+     */
+    private void writeServerInfoUpdate(JsonWriter out, ServerInfoTracker.ServerInfoUpdate update) throws IOException {
+        out.name("seq").value(update.getSequence());
+        if (update.isFull()) {
+            out.name("mode").value("full");
+            out.name("server_info");
+            serverInfoAdapter.write(out, update.getServerInfo());
+        } else {
+            out.name("mode").value("delta");
+            out.name("base_seq").value(update.getBaseSequence());
+            out.name("server_info");
+            gson.toJson(update.getFields(), out);
+        }
+    }
+
+    private void writePlayers(JsonWriter out, List<PlayerInfo> players) throws IOException {
+        out.beginArray();
+        for (PlayerInfo player : players) {
+            playerAdapter.write(out, player);
+        }
+        out.endArray();
+    }
+
+    /**
+     * 명령어 상태 업데이트 객체 기록 - null 값은 JsonWriter 설정에 따라 생략됨
+     */
+    static void writeStatusUpdate(JsonWriter out, CommandStatusUpdate update) throws IOException {
+        out.beginObject();
+        out.name("queue_id").value(update.getQueueId());
+        out.name("status").value(update.getStatus());
+        if (update.hasResult()) {
+            out.name("execution_result");
+            out.beginObject();
+            out.name("success").value(update.isSuccess());
+            out.name("player_name").value(update.getPlayerName());
+            out.name("command").value(update.getCommand());
+            out.name("executed_command").value(update.getExecutedCommand());
+            out.name("output").value(update.getOutput());
+            out.name("execution_time").value(update.getExecutionTime());
+            out.endObject();
+        }
+        out.endObject();
+    }
+}
@@ -0,0 +1,193 @@
+package com.gameboy.connector.communication;
+
+import com.gameboy.connector.utils.Logger;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 롱폴링 명령어 채널
+ * 웹서버가 새 명령어가 생길 때까지 응답을 보류하므로, 명령어가 등록되는 즉시 전달받습니다.
+ * 웹서버가 롱폴링을 지원하지 않거나 연결 실패가 반복되면 기존 주기 폴링으로 전환합니다.
+ */
+public class LongPollCommandChannel {
+
+    private static final String CAPABILITY_LONG_POLL = "long_poll";
+    private static final long RESPONSE_GRACE_TIME = 5; // 대기 시간 외 응답 여유 (초)
+    private static final long RECONNECT_BASE_TIME = 1000; // 1초 기본 재연결 대기
+    private static final long MAX_RECONNECT_TIME = 30000; // 최대 30초 재연결 대기
+    private static final long CIRCUIT_CHECK_TIME = 1000; // Circuit Open 중 재확인 간격
+    private static final int FAILURE_THRESHOLD = 5; // 5번 연속 실패 시 폴링 모드로 전환
+    private static final long FALLBACK_RETRY_TIME = 300000; // 폴링 모드 전환 후 5분 뒤 롱폴링 재시도
+    private static final long MIN_REPOLL_TIME = 1000; // 응답을 보류하지 않고 빈 응답을 바로 보낸 경우의 최소 재요청 간격
+
+    private final WebServerCommunicator communicator;
+    private final HttpTransport transport;
+    private final Logger logger;
+    private final String serverCode;
+    private final int waitSeconds;
+    private final CircuitBreaker breaker;
+
+    private final AtomicBoolean active = new AtomicBoolean(false);
+    private volatile boolean stopped = false;
+    private volatile long retryAfter = 0;
+    private volatile int consecutiveFailures = 0;
+
+    public LongPollCommandChannel(WebServerCommunicator communicator, HttpTransport transport,
+                                  Logger logger, String serverCode, int waitSeconds) {
+        this.communicator = communicator;
+        this.transport = transport;
+        this.logger = logger;
+        this.serverCode = serverCode;
+        this.waitSeconds = Math.max(1, waitSeconds);
+        this.breaker = communicator.breaker(WebServerCommunicator.COMMANDS_ENDPOINT);
+    }
+
+    /**
+     * 채널 시작 (이미 실행 중이면 무시)
+     */
+    public void start() {
+        if (stopped || !active.compareAndSet(false, true)) {
+            return;
+        }
+        consecutiveFailures = 0;
+        logger.info("롱폴링 명령어 채널 시작");
+        poll();
+    }
+
+    /**
+     * 채널 종료 (플러그인 비활성화 시)
+     */
+    public void stop() {
+        stopped = true;
+        active.set(false);
+    }
+
+    /**
+     * 폴링 모드에서 주기적으로 호출 - 재시도 시간이 지났으면 롱폴링 재시작
+     * 주기 폴링으로 받은 명령어가 아직 처리 중이면 같은 명령어를 두 번 받지 않도록 다음 호출까지 미룹니다.
+     */
+    public void retryIfDue() {
+        if (!active.get() && System.currentTimeMillis() >= retryAfter && !communicator.isCommandPollInProgress()) {
+            start();
+        }
+    }
+
+    public boolean isActive() {
+        return active.get();
+    }
+
+    /**
+     * 롱폴링 요청 1회 - 응답 처리가 끝나면 즉시 다음 요청을 보냄
+     */
+    private void poll() {
+        if (stopped || !active.get()) {
+            return;
+        }
+
+        // Circuit Breaker 확인 - 열려 있으면 잠시 후 다시 확인
+        if (!breaker.tryAcquire()) {
+            schedule(CIRCUIT_CHECK_TIME);
+            return;
+        }
+
+        HttpRequest request = transport.newRequest(
+                    WebServerCommunicator.COMMANDS_ENDPOINT + "?server_code=" + serverCode + "&wait=" + waitSeconds)
+                .timeout(Duration.ofSeconds(waitSeconds + RESPONSE_GRACE_TIME))
+                .GET()
+                .build();
+
+        long startedAt = System.currentTimeMillis();
+        transport.send(request, HttpResponse.BodyHandlers.ofInputStream())
+                .thenCompose(response -> {
+                    if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                        WebServerCommunicator.closeQuietly(response.body());
+                        throw new CompletionException(new HttpStatusException(response.statusCode()));
+                    }
+
+                    // 응답 보류가 정상 동작이므로 응답 시간은 집계하지 않음
+                    breaker.onSuccess(0);
+                    communicator.flushOutbox();
+                    // 본문은 도착하는 대로 읽으면서 명령어 실행
+                    return communicator.streamPendingCommands(response.body(), TimeUnit.SECONDS.toMillis(waitSeconds + RESPONSE_GRACE_TIME));
+                })
+                .whenComplete((result, error) -> onComplete(result, error, startedAt));
+    }
+
+    private void onComplete(PendingCommandReader.Result result, Throwable error, long startedAt) {
+        if (stopped) {
+            return;
+        }
+
+        if (error == null) {
+            consecutiveFailures = 0;
+            if (!communicator.hasCapability(result.getEnvelope(), CAPABILITY_LONG_POLL)) {
+                fallBack("웹서버가 롱폴링을 지원하지 않습니다");
+                return;
+            }
+            // 명령어 없이 대기 시간보다 훨씬 일찍 응답했으면 (응답 보류 없음) 바로 다시 요청하지 않음
+            long elapsed = System.currentTimeMillis() - startedAt;
+            if (result.getCommandCount() == 0 && elapsed < TimeUnit.SECONDS.toMillis(waitSeconds) / 2) {
+                schedule(MIN_REPOLL_TIME);
+                return;
+            }
+            poll();
+            return;
+        }
+
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+        // 대기 시간 만료는 정상 상황 - 즉시 재연결
+        if (cause instanceof HttpTimeoutException) {
+            breaker.onIgnored();
+            poll();
+            return;
+        }
+
+        // 요청 형식 미지원 - 폴링 모드로 전환
+        if (cause instanceof HttpStatusException && ((HttpStatusException) cause).isClientError()) {
+            breaker.onIgnored();
+            fallBack("웹서버가 롱폴링 요청을 거부했습니다 (" + cause.getMessage() + ")");
+            return;
+        }
+
+        if (cause instanceof RejectedExecutionException) {
+            breaker.onIgnored();
+        } else {
+            breaker.onFailure(0);
+        }
+
+        consecutiveFailures++;
+        if (consecutiveFailures >= FAILURE_THRESHOLD) {
+            fallBack("롱폴링 연결 실패가 " + FAILURE_THRESHOLD + "회 연속 발생했습니다");
+            return;
+        }
+
+        long reconnectTime = Math.min(RECONNECT_BASE_TIME << (consecutiveFailures - 1), MAX_RECONNECT_TIME);
+        logger.debug("롱폴링 재연결 대기 " + reconnectTime + "ms: " + cause.getMessage());
+        schedule(reconnectTime);
+    }
+
+    /**
+     * 폴링 모드로 전환 - FALLBACK_RETRY_TIME 이후 retryIfDue()에서 다시 시도
+     */
+    private void fallBack(String reason) {
+        retryAfter = System.currentTimeMillis() + FALLBACK_RETRY_TIME;
+        active.set(false);
+        logger.warning(reason + ". 주기 폴링 모드로 전환합니다.");
+    }
+
+    /**
+     * 지연 후 다음 요청 - 대기 중 스레드를 점유하지 않음
+     */
+    private void schedule(long delayMillis) {
+        CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS).execute(this::poll);
+    }
+}
@@ -0,0 +1,294 @@
+package com.gameboy.connector.communication;
+
+import com.gameboy.connector.metrics.ConnectorMetrics;
+import com.gameboy.connector.utils.Logger;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * 전송 작업 디스패처
+ * 웹서버로 나가는 주기 작업(명령어 폴링, 플레이어 목록, 서버 정보 등)을 스레드 하나에서 우선순위 순서로 실행합니다.
+ * - 우선순위: 명령어 결과 > 명령어 수신 > 플레이어 목록 > 서버 정보
+ * - 같은 키의 작업이 이미 대기 중이면 대기 순서는 유지하고 내용만 최신 작업으로 교체
+ * - 우선순위별 최소 실행 간격 제한
+ * - 첫 실행 시각을 무작위로 분산하여 여러 서버가 동시에 재시작해도 요청이 몰리지 않음
+ * - 전송 대기열에 요청이 밀려 있으면 플레이어 목록/서버 정보 작업은 대기
+ *
+ * 작업은 디스패처 스레드에서 실행되므로 오래 걸리는 동기 작업을 넣으면 안 됩니다.
+ */
+public class OutboundDispatcher {
+
+    private static final long BACKLOG_RECHECK_TIME = 100; // 전송 대기열이 밀려 있을 때 재확인 간격 (ms)
+
+    /**
+     * 작업 우선순위 (선언 순서가 높은 우선순위)
+     */
+    public enum Priority {
+        COMMAND_RESULT(false),
+        COMMAND_FETCH(false),
+        PLAYER_PRESENCE(true),
+        SERVER_INFO(true);
+
+        private final boolean background;
+
+        Priority(boolean background) {
+            this.background = background;
+        }
+
+        /**
+         * 전송 대기열이 밀려 있으면 양보하는 작업인지 여부
+         */
+        public boolean isBackground() {
+            return background;
+        }
+
+        public String getConfigName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * HTTP 요청의 우선순위 (전송 계층 대기열 정렬용)
+         */
+        static Priority forRequest(String method, String path) {
+            if (path.endsWith(WebServerCommunicator.COMMANDS_ENDPOINT)) {
+                return "GET".equals(method) ? COMMAND_FETCH : COMMAND_RESULT;
+            }
+            if (path.endsWith(HeartbeatChannel.ENDPOINT)) {
+                return COMMAND_FETCH;
+            }
+            if (path.endsWith(WebServerCommunicator.PLAYER_LIST_ENDPOINT)) {
+                return PLAYER_PRESENCE;
+            }
+            if (path.endsWith(OutboxJournal.Type.SERVER_INFO.getEndpoint())) {
+                return SERVER_INFO;
+            }
+            // 명령어 실행 결과, 연결 테스트, 종료 알림
+            return COMMAND_RESULT;
+        }
+    }
+
+    private final long startupJitter;
+    private final long[] minIntervals;
+    private final IntSupplier transportBacklog;
+    private final Logger logger;
+    private final ConnectorMetrics metrics;
+    private final ScheduledThreadPoolExecutor executor;
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean drainRequested = new AtomicBoolean(false);
+
+    // 대기 작업 (lanes 잠금으로 보호) - 디스패처가 작업을 실행하는 동안 들어온 작업도 우선순위로 경쟁
+    private final ArrayDeque<Job>[] lanes;
+    private final Map<String, Job> pendingByKey = new HashMap<>();
+
+    // 아래 상태는 디스패처 스레드에서만 접근
+    private final long[] nextAllowedTimes;
+    private ScheduledFuture<?> wakeUp;
+    private long wakeUpTime = Long.MAX_VALUE;
+
+    /**
+     * @param startupJitter    주기 작업 첫 실행 지연의 최대값 (ms)
+     * @param minIntervals     우선순위별 최소 실행 간격 (ms, Priority 선언 순서)
+     * @param transportBacklog 전송 계층 대기열에 밀려 있는 요청 수
+     */
+    @SuppressWarnings("unchecked")
+    public OutboundDispatcher(long startupJitter, long[] minIntervals, IntSupplier transportBacklog,
+                              Logger logger, ConnectorMetrics metrics) {
+        this.startupJitter = Math.max(0, startupJitter);
+        this.minIntervals = minIntervals.clone();
+        this.transportBacklog = transportBacklog;
+        this.logger = logger;
+        this.metrics = metrics;
+
+        int priorities = Priority.values().length;
+        this.lanes = new ArrayDeque[priorities];
+        for (int i = 0; i < priorities; i++) {
+            lanes[i] = new ArrayDeque<>();
+        }
+        this.nextAllowedTimes = new long[priorities];
+
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "GameboyConnector-Dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+
+        metrics.registerGauge("dispatcher.pending", pendingCount::get);
+    }
+
+    /**
+     * 주기 작업 등록 - 첫 실행은 startupJitter 이내의 무작위 시각
+     */
+    public void schedulePeriodic(Priority priority, String key, long periodMillis, Runnable task) {
+        long period = Math.max(1, periodMillis);
+        executor.scheduleAtFixedRate(() -> enqueue(new Job(priority, key, task)),
+                jitter(period), period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 작업 즉시 실행 요청 (같은 키의 작업이 대기 중이면 합쳐짐, key가 null이면 합치지 않음)
+     */
+    public void submit(Priority priority, String key, Runnable task) {
+        enqueue(new Job(priority, key, task));
+    }
+
+    /**
+     * 지연 후 작업 실행 요청
+     */
+    public void submitDelayed(Priority priority, String key, long delayMillis, Runnable task) {
+        try {
+            executor.schedule(() -> enqueue(new Job(priority, key, task)), Math.max(0, delayMillis), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    /**
+     * 첫 실행 지연 - bound와 startupJitter 중 작은 값 이내의 무작위 시간
+     */
+    public long jitter(long bound) {
+        long limit = Math.min(bound, startupJitter);
+        return limit > 0 ? ThreadLocalRandom.current().nextLong(limit) : 0;
+    }
+
+    /**
+     * 디스패처 종료 (플러그인 비활성화 시) - 대기 중인 작업은 버림
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void enqueue(Job job) {
+        synchronized (lanes) {
+            if (job.key != null) {
+                Job pending = pendingByKey.putIfAbsent(job.key, job);
+                if (pending != null) {
+                    pending.task = job.task;
+                    metrics.increment("dispatcher.coalesced");
+                    return;
+                }
+            }
+            lanes[job.priority.ordinal()].add(job);
+        }
+        pendingCount.incrementAndGet();
+        requestDrain();
+    }
+
+    /**
+     * 디스패처 스레드에 대기 작업 실행 요청 (이미 요청되어 있으면 합쳐짐)
+     */
+    private void requestDrain() {
+        if (!drainRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                drainRequested.set(false);
+                drain();
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    /**
+     * 실행 가능한 작업을 우선순위 순서로 실행
+     * 간격 제한이나 전송 대기열 때문에 실행하지 못한 작업이 있으면 가능한 시각에 다시 확인합니다.
+     */
+    private void drain() {
+        while (true) {
+            long now = System.currentTimeMillis();
+            long nextCheck = Long.MAX_VALUE;
+            Job next = null;
+
+            boolean backlogged = transportBacklog.getAsInt() > 0;
+            synchronized (lanes) {
+                for (Priority priority : Priority.values()) {
+                    ArrayDeque<Job> lane = lanes[priority.ordinal()];
+                    if (lane.isEmpty()) {
+                        continue;
+                    }
+                    long allowedAt = nextAllowedTimes[priority.ordinal()];
+                    if (now < allowedAt) {
+                        nextCheck = Math.min(nextCheck, allowedAt);
+                        continue;
+                    }
+                    if (priority.isBackground() && backlogged) {
+                        nextCheck = Math.min(nextCheck, now + BACKLOG_RECHECK_TIME);
+                        continue;
+                    }
+                    next = lane.poll();
+                    if (next.key != null) {
+                        pendingByKey.remove(next.key);
+                    }
+                    break;
+                }
+            }
+
+            if (next == null) {
+                if (nextCheck != Long.MAX_VALUE) {
+                    scheduleWakeUp(nextCheck, now);
+                }
+                return;
+            }
+
+            pendingCount.decrementAndGet();
+            nextAllowedTimes[next.priority.ordinal()] = now + minIntervals[next.priority.ordinal()];
+            run(next);
+        }
+    }
+
+    private void run(Job job) {
+        metrics.increment("dispatcher." + job.priority.getConfigName());
+        try {
+            job.task.run();
+        } catch (Exception e) {
+            logger.severe("전송 작업 실패 (" + (job.key != null ? job.key : job.priority.getConfigName()) + "): "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * 대기 중인 작업을 다시 확인할 시각 예약 (이미 더 이른 예약이 있으면 유지)
+     */
+    private void scheduleWakeUp(long time, long now) {
+        if (wakeUp != null && !wakeUp.isDone() && wakeUpTime <= time) {
+            return;
+        }
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+        }
+        wakeUpTime = time;
+        wakeUp = executor.schedule(() -> {
+            wakeUp = null;
+            wakeUpTime = Long.MAX_VALUE;
+            drain();
+        }, Math.max(1, time - now), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 대기 중인 작업
+     */
+    private static final class Job {
+        private final Priority priority;
+        private final String key;
+        private Runnable task;
+
+        private Job(Priority priority, String key, Runnable task) {
+            this.priority = priority;
+            this.key = key;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package com.gameboy.connector.communication;
+
+import com.gameboy.connector.metrics.ConnectorMetrics;
+import com.gameboy.connector.utils.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 전송 대기함 (디스크 저널)
+ * 웹서버 장애 중 보내지 못한 메시지를 플러그인 폴더의 메모리 매핑 파일에 추가 기록하고,
+ * 연결이 복구되면 오래된 순서대로 꺼내 전송합니다.
+ * 같은 종류/키의 메시지는 최신 것만 남기며, 서버가 비정상 종료되어도 다음 활성화 시 다시 읽어 들입니다.
+ */
+public class OutboxJournal {
+
+    // 레코드 형식: [전체 길이 int][종류 byte][키 long][CRC32 int][본문 UTF-8]
+    // 길이는 나머지를 모두 기록한 뒤 마지막에 쓰므로, 기록 도중 종료된 레코드는 길이가 0으로 남아 무시됨
+    private static final int HEADER_SIZE = 4 + 1 + 8 + 4;
+    private static final int TERMINATOR_SIZE = 4;
+    private static final byte REMOVED_FLAG = (byte) 0x80; // 삭제 기록 (종류 코드에 표시)
+
+    /**
+     * 메시지 종류 - 전송 엔드포인트와 함께 관리
+     */
+    public enum Type {
+        SERVER_INFO((byte) 1, "/plugin-server-info.php"),
+        COMMAND_STATUS((byte) 2, "/pending-commands.php");
+
+        private final byte code;
+        private final String endpoint;
+
+        Type(byte code, String endpoint) {
+            this.code = code;
+            this.endpoint = endpoint;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        static Type fromCode(byte code) {
+            for (Type type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Path file;
+    private final int capacity;
+    private final Logger logger;
+    private final ConnectorMetrics metrics;
+    private final CRC32 crc = new CRC32();
+
+    // 전송 대기 중인 메시지 (기록 순서 유지, 같은 키는 교체)
+    private final Map<String, Entry> pending = new LinkedHashMap<>();
+
+    private FileChannel channel;
+    private MappedByteBuffer journal;
+    private int position = 0;
+    private long nextVersion = 0;
+    private boolean closed = false;
+
+    private OutboxJournal(Path file, int capacity, Logger logger, ConnectorMetrics metrics) {
+        this.file = file;
+        this.capacity = capacity;
+        this.logger = logger;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 저널 열기 - 기존 파일이 있으면 남아 있는 메시지를 복구하고 압축하여 다시 기록
+     */
+    public static OutboxJournal open(Path file, int capacity, Logger logger, ConnectorMetrics metrics) throws IOException {
+        OutboxJournal outbox = new OutboxJournal(file, Math.max(HEADER_SIZE + TERMINATOR_SIZE, capacity), logger, metrics);
+        outbox.replay();
+        outbox.compact();
+
+        metrics.registerGauge("outbox.pending", outbox::size);
+        metrics.registerGauge("outbox.bytes", outbox::getUsedBytes);
+
+        if (!outbox.pending.isEmpty()) {
+            logger.info("전송 대기함에서 미전송 메시지 " + outbox.pending.size() + "건을 복구했습니다.");
+        }
+        return outbox;
+    }
+
+    /**
+     * 메시지 보관 - 같은 종류/키의 이전 메시지는 교체됨
+     */
+    public synchronized void put(Type type, long key, String payload) {
+        if (closed) {
+            return;
+        }
+
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        if (HEADER_SIZE + bytes.length + TERMINATOR_SIZE > capacity) {
+            metrics.increment("outbox.dropped");
+            logger.warning("전송 대기함 용량보다 큰 메시지는 보관할 수 없습니다 (" + bytes.length + " bytes)");
+            return;
+        }
+
+        String id = id(type, key);
+        Entry previous = pending.remove(id);
+        if (previous != null) {
+            metrics.increment("outbox.coalesced");
+        }
+        Entry entry = new Entry(type, key, payload, bytes, nextVersion++);
+        pending.put(id, entry);
+        metrics.increment("outbox.deferred");
+
+        try {
+            if (!fits(HEADER_SIZE + bytes.length)) {
+                compact();
+            } else {
+                append(type.code, key, bytes);
+            }
+        } catch (IOException e) {
+            logger.severe("전송 대기함 기록 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 전송 완료된 메시지 삭제 - 꺼낸 뒤 같은 키로 새 메시지가 들어왔으면 새 메시지는 유지
+     */
+    public synchronized void remove(Entry entry) {
+        String id = id(entry.type, entry.key);
+        Entry current = pending.get(id);
+        if (current == null || current.version != entry.version) {
+            return;
+        }
+        pending.remove(id);
+        recordRemoval(entry.type, entry.key);
+    }
+
+    /**
+     * 종류/키에 해당하는 메시지 삭제 (더 새로운 데이터가 직접 전송된 경우)
+     */
+    public synchronized void remove(Type type, long key) {
+        if (pending.remove(id(type, key)) != null) {
+            recordRemoval(type, key);
+        }
+    }
+
+    public synchronized boolean contains(Type type, long key) {
+        return pending.containsKey(id(type, key));
+    }
+
+    /**
+     * 오래된 순서로 최대 limit개 메시지 조회 (삭제하지 않음)
+     */
+    public synchronized List<Entry> peek(int limit) {
+        List<Entry> entries = new ArrayList<>(Math.min(limit, pending.size()));
+        for (Entry entry : pending.values()) {
+            if (entries.size() >= limit) {
+                break;
+            }
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    public synchronized boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    public synchronized int size() {
+        return pending.size();
+    }
+
+    public synchronized int getUsedBytes() {
+        return position;
+    }
+
+    /**
+     * 저널 닫기 (플러그인 비활성화 시) - 남은 메시지는 다음 활성화 시 복구됨
+     */
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            journal.force();
+            channel.close();
+        } catch (IOException e) {
+            logger.warning("전송 대기함 닫기 실패: " + e.getMessage());
+        }
+    }
+
+    private void recordRemoval(Type type, long key) {
+        if (closed) {
+            return;
+        }
+        try {
+            // 모두 전송되었으면 저널을 처음부터 다시 사용
+            if (pending.isEmpty()) {
+                journal.putInt(0, 0);
+                journal.force();
+                position = 0;
+                return;
+            }
+            if (!fits(HEADER_SIZE)) {
+                compact();
+            } else {
+                append((byte) (type.code | REMOVED_FLAG), key, new byte[0]);
+            }
+        } catch (IOException e) {
+            logger.severe("전송 대기함 기록 실패: " + e.getMessage());
+        }
+    }
+
+    private boolean fits(int recordSize) {
+        return position + recordSize + TERMINATOR_SIZE <= capacity;
+    }
+
+    private void append(byte code, long key, byte[] payload) {
+        int start = position;
+        position = writeRecord(journal, start, code, key, payload);
+        journal.force(start, position - start + TERMINATOR_SIZE);
+    }
+
+    /**
+     * 레코드 1개 기록 - 다음 위치에 종료 표시를 먼저 쓰고, 길이는 마지막에 기록
+     */
+    private int writeRecord(ByteBuffer buffer, int start, byte code, long key, byte[] payload) {
+        int length = HEADER_SIZE + payload.length;
+        buffer.putInt(start + length, 0);
+        buffer.put(start + 4, code);
+        buffer.putLong(start + 5, key);
+        buffer.putInt(start + 13, checksum(code, key, payload, 0, payload.length));
+        buffer.put(start + HEADER_SIZE, payload);
+        buffer.putInt(start, length);
+        return start + length;
+    }
+
+    private int checksum(byte code, long key, byte[] payload, int offset, int length) {
+        crc.reset();
+        crc.update(code);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (key >>> shift));
+        }
+        crc.update(payload, offset, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * 기존 저널 읽기 - 손상되었거나 기록이 끝나지 않은 레코드에서 중단
+     */
+    private void replay() throws IOException {
+        if (!Files.exists(file) || Files.size(file) == 0) {
+            return;
+        }
+
+        byte[] data = Files.readAllBytes(file);
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        int offset = 0;
+        while (offset + HEADER_SIZE <= data.length) {
+            int length = buffer.getInt(offset);
+            if (length < HEADER_SIZE || offset + length > data.length) {
+                break;
+            }
+
+            byte code = buffer.get(offset + 4);
+            long key = buffer.getLong(offset + 5);
+            int payloadLength = length - HEADER_SIZE;
+            if (buffer.getInt(offset + 13) != checksum(code, key, data, offset + HEADER_SIZE, payloadLength)) {
+                logger.warning("전송 대기함의 손상된 레코드를 건너뜁니다 (위치 " + offset + ")");
+                break;
+            }
+
+            Type type = Type.fromCode((byte) (code & ~REMOVED_FLAG));
+            if (type != null) {
+                String id = id(type, key);
+                pending.remove(id);
+                if ((code & REMOVED_FLAG) == 0) {
+                    byte[] payload = new byte[payloadLength];
+                    System.arraycopy(data, offset + HEADER_SIZE, payload, 0, payloadLength);
+                    pending.put(id, new Entry(type, key, new String(payload, StandardCharsets.UTF_8), payload, nextVersion++));
+                }
+            }
+            offset += length;
+        }
+    }
+
+    /**
+     * 남은 메시지만 새 파일에 기록한 뒤 원자적으로 교체
+     * 용량이 부족하면 가장 오래된 메시지부터 버립니다.
+     * 교체할 수 없으면 (매핑된 파일을 덮어쓸 수 없는 Windows 등) 기존 매핑에 그대로 기록하므로 매핑은 항상 하나만 유지됩니다.
+     */
+    private void compact() throws IOException {
+        int required = 0;
+        for (Entry entry : pending.values()) {
+            required += HEADER_SIZE + entry.bytes.length;
+        }
+        if (required + TERMINATOR_SIZE > capacity) {
+            // 가득 찰 때마다 압축하지 않도록 용량의 3/4까지 비움
+            int dropped = 0;
+            Iterator<Entry> oldest = pending.values().iterator();
+            while (required + TERMINATOR_SIZE > capacity / 4 * 3 && oldest.hasNext()) {
+                required -= HEADER_SIZE + oldest.next().bytes.length;
+                oldest.remove();
+                dropped++;
+            }
+            metrics.add("outbox.dropped", dropped);
+            logger.warning("전송 대기함이 가득 차서 가장 오래된 메시지 " + dropped + "건을 버렸습니다.");
+        }
+
+        // 압축된 내용은 힙 버퍼에 만든 뒤 한 번에 기록 (임시 파일은 매핑하지 않음)
+        ByteBuffer image = ByteBuffer.allocate(required + TERMINATOR_SIZE);
+        int offset = 0;
+        for (Entry entry : pending.values()) {
+            offset = writeRecord(image, offset, entry.type.code, entry.key, entry.bytes);
+        }
+        image.putInt(offset, 0);
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        boolean replaced = false;
+        try {
+            try (FileChannel output = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeFully(output, image);
+                output.force(true);
+            }
+            if (journal != null) {
+                journal.force();
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            replaced = true;
+        } catch (IOException e) {
+            logger.debug("전송 대기함 파일 교체 실패, 기존 파일에 직접 기록합니다: " + e.getMessage());
+            Files.deleteIfExists(temp);
+        }
+
+        if (!replaced && journal != null) {
+            // 새 매핑을 만들지 않고 기존 매핑에 덮어씀 (기록 도중 종료되면 CRC가 맞는 레코드까지만 복구됨)
+            journal.put(0, image.array(), 0, image.capacity());
+            journal.force();
+            position = offset;
+            return;
+        }
+        if (!replaced) {
+            // 아직 매핑하지 않은 파일 (활성화 시) - 길이를 줄이지 않고 앞부분만 덮어씀
+            try (FileChannel output = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                writeFully(output, image);
+                output.force(true);
+            }
+        }
+
+        // 이전 매핑은 참조를 끊어 해제 대상으로 만든 뒤 (Java에서는 직접 해제할 수 없음) 새 파일을 매핑
+        journal = null;
+        if (channel != null) {
+            channel.close();
+        }
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        journal = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        position = offset;
+    }
+
+    private static void writeFully(FileChannel output, ByteBuffer image) throws IOException {
+        ByteBuffer source = image.duplicate();
+        source.clear();
+        long written = 0;
+        while (source.hasRemaining()) {
+            written += output.write(source, written);
+        }
+    }
+
+    private static String id(Type type, long key) {
+        return type.name() + ':' + key;
+    }
+
+    /**
+     * 대기 중인 메시지 1건
+     */
+    public static class Entry {
+        private final Type type;
+        private final long key;
+        private final String payload;
+        private final byte[] bytes;
+        private final long version;
+
+        private Entry(Type type, long key, String payload, byte[] bytes, long version) {
+            this.type = type;
+            this.key = key;
+            this.payload = payload;
+            this.bytes = bytes;
+            this.version = version;
+        }
+
+        public Type getType() { return type; }
+        public long getKey() { return key; }
+        public String getPayload() { return payload; }
+    }
+}
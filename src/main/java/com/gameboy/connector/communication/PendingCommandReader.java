@@ -0,0 +1,135 @@
+package com.gameboy.connector.communication;
+
+import com.gameboy.connector.models.PendingCommand;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 명령어 폴링 응답 스트리밍 파서
+ * 응답 본문을 JsonReader로 읽으면서 pending_commands의 명령어를 하나씩 전달하므로,
+ * 응답 전체가 도착하기 전에 앞쪽 명령어부터 실행할 수 있고 응답 전체를 문자열/JSON 트리로 만들지 않습니다.
+ * - status가 success로 확인된 뒤에 도착한 명령어는 즉시 전달
+ * - status보다 명령어가 먼저 오면 끝까지 읽은 뒤 success인 경우에만 전달
+ * - pending_commands 외의 필드(status, capabilities 등)는 JsonObject로 모아 반환
+ */
+public class PendingCommandReader {
+
+    /**
+     * 명령어 수신 처리
+     */
+    public interface Listener {
+        /**
+         * 명령어 하나 도착 - envelope는 지금까지 읽은 pending_commands 외 필드
+         */
+        void onCommand(JsonObject envelope, PendingCommand command);
+
+        /**
+         * 모든 명령어 전달 완료 (명령어가 없어도 호출)
+         */
+        void onEnd(JsonObject envelope);
+    }
+
+    private PendingCommandReader() {
+    }
+
+    /**
+     * 응답 본문 읽기 - 반환값은 pending_commands 외 필드와 명령어 수
+     */
+    public static Result read(JsonReader in, Listener listener) throws IOException {
+        JsonObject envelope = new JsonObject();
+        List<PendingCommand> deferred = new ArrayList<>();
+        int count = 0;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (!"pending_commands".equals(name) || in.peek() != JsonToken.BEGIN_ARRAY) {
+                envelope.add(name, JsonParser.parseReader(in));
+                continue;
+            }
+
+            in.beginArray();
+            while (in.hasNext()) {
+                PendingCommand command = readCommand(in);
+                count++;
+                if (envelope.has("status")) {
+                    if (isSuccess(envelope)) {
+                        listener.onCommand(envelope, command);
+                    }
+                } else {
+                    deferred.add(command);
+                }
+            }
+            in.endArray();
+        }
+        in.endObject();
+
+        if (isSuccess(envelope)) {
+            for (PendingCommand command : deferred) {
+                listener.onCommand(envelope, command);
+            }
+        }
+        listener.onEnd(envelope);
+        return new Result(envelope, count);
+    }
+
+    /**
+     * 응답 status가 success인지 확인
+     */
+    static boolean isSuccess(JsonObject envelope) {
+        return envelope.has("status") && "success".equals(envelope.get("status").getAsString());
+    }
+
+    /**
+     * 명령어 하나 읽기 (id, player_name, command_string 외 필드는 무시)
+     */
+    private static PendingCommand readCommand(JsonReader in) throws IOException {
+        Integer id = null;
+        String playerName = null;
+        String commandString = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "id": id = in.nextInt(); break;
+                case "player_name": playerName = in.nextString(); break;
+                case "command_string": commandString = in.nextString(); break;
+                default: in.skipValue();
+            }
+        }
+        in.endObject();
+
+        if (id == null || playerName == null || commandString == null) {
+            throw new JsonParseException("명령어 형식 오류 (id, player_name, command_string 필요)");
+        }
+        return new PendingCommand(id, playerName, commandString);
+    }
+
+    /**
+     * 읽기 결과
+     */
+    public static class Result {
+        private final JsonObject envelope;
+        private final int commandCount;
+
+        private Result(JsonObject envelope, int commandCount) {
+            this.envelope = envelope;
+            this.commandCount = commandCount;
+        }
+
+        public JsonObject getEnvelope() { return envelope; }
+        public int getCommandCount() { return commandCount; }
+    }
+}
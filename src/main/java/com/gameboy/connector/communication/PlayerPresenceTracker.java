@@ -0,0 +1,198 @@
+package com.gameboy.connector.communication;
+
+import com.gameboy.connector.models.PlayerInfo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 플레이어 접속 상태 추적기
+ * 접속/퇴장 이벤트로 온라인 목록을 유지하고, 웹서버에는 마지막 전송 이후의 변경분(추가/제거)만 보냅니다.
+ * 웹서버가 순서 번호 불일치를 알리거나 전송이 실패하면 다음 전송에서 전체 목록을 다시 보냅니다.
+ */
+public class PlayerPresenceTracker {
+
+    private final long fullResyncInterval;
+
+    // 현재 온라인 플레이어 (UUID → 플레이어 정보)
+    private final Map<String, PlayerInfo> online = new LinkedHashMap<>();
+
+    // 마지막 전송 이후 변경분 (UUID → 추가 시 플레이어 정보, 제거 시 null)
+    private final Map<String, PlayerInfo> changes = new LinkedHashMap<>();
+
+    private long sequence = 0;
+    private long lastFullSyncTime = 0;
+    private boolean fullResyncRequired = true;
+    private long resyncGeneration = 0; // 전체 재전송이 요청될 때마다 증가
+    private boolean updateInFlight = false;
+    private volatile boolean deltaSupported = false;
+
+    public PlayerPresenceTracker(long fullResyncInterval) {
+        this.fullResyncInterval = fullResyncInterval;
+    }
+
+    /**
+     * 온라인 목록 초기화 (플러그인 활성화 시 이미 접속 중인 플레이어 등록)
+     */
+    public synchronized void reset(Collection<PlayerInfo> players) {
+        online.clear();
+        changes.clear();
+        for (PlayerInfo player : players) {
+            online.put(player.getPlayerUuid(), player);
+        }
+        requestFullResync();
+    }
+
+    /**
+     * 플레이어 접속 기록
+     */
+    public synchronized void playerJoined(String playerName, String playerUuid) {
+        PlayerInfo player = new PlayerInfo(playerName, playerUuid);
+        online.put(playerUuid, player);
+        changes.put(playerUuid, player);
+    }
+
+    /**
+     * 플레이어 퇴장 기록 - 아직 전송하지 않은 접속 기록은 서로 상쇄됨
+     */
+    public synchronized void playerQuit(String playerUuid) {
+        online.remove(playerUuid);
+        if (changes.containsKey(playerUuid) && changes.get(playerUuid) != null) {
+            changes.remove(playerUuid);
+        } else {
+            changes.put(playerUuid, null);
+        }
+    }
+
+    /**
+     * 다음 전송 시 전체 목록 재전송 요청
+     * 이미 전송 중인 업데이트는 요청 이전의 목록이므로, 요청 이후에 준비한 전체 목록이 전송되어야 요청이 처리됩니다.
+     */
+    public synchronized void requestFullResync() {
+        fullResyncRequired = true;
+        resyncGeneration++;
+    }
+
+    /**
+     * 전송할 업데이트 준비
+     * 이전 업데이트가 진행 중이거나 보낼 변경분이 없으면 null을 반환합니다.
+     */
+    public synchronized PresenceUpdate prepareUpdate(long currentTime) {
+        if (updateInFlight) {
+            return null;
+        }
+
+        PresenceUpdate update;
+        boolean resyncDue = currentTime - lastFullSyncTime >= fullResyncInterval;
+
+        if (!deltaSupported || fullResyncRequired || resyncDue) {
+            update = PresenceUpdate.full(sequence + 1, resyncGeneration, new ArrayList<>(online.values()));
+        } else if (changes.isEmpty()) {
+            return null;
+        } else {
+            List<PlayerInfo> added = new ArrayList<>();
+            List<String> removed = new ArrayList<>();
+            for (Map.Entry<String, PlayerInfo> change : changes.entrySet()) {
+                if (change.getValue() != null) {
+                    added.add(change.getValue());
+                } else {
+                    removed.add(change.getKey());
+                }
+            }
+            update = PresenceUpdate.delta(sequence + 1, sequence, resyncGeneration, added, removed, online.size());
+        }
+
+        changes.clear();
+        updateInFlight = true;
+        return update;
+    }
+
+    /**
+     * 업데이트 전송 결과 반영
+     * 실패하면 전송하지 못한 변경분을 복구할 수 없으므로 다음에 전체 목록을 보냅니다.
+     *
+     * @param resyncRequested 웹서버가 순서 번호 불일치 등으로 전체 목록을 요청한 경우 true
+     */
+    public synchronized void complete(PresenceUpdate update, boolean success, boolean resyncRequested, long currentTime) {
+        updateInFlight = false;
+
+        if (!success) {
+            requestFullResync();
+            return;
+        }
+
+        sequence = update.getSequence();
+        if (update.isFull()) {
+            lastFullSyncTime = currentTime;
+            // 전송 중에 들어온 재전송 요청은 다음 전송에서 처리
+            if (update.resyncGeneration == resyncGeneration) {
+                fullResyncRequired = false;
+            }
+        }
+        if (resyncRequested) {
+            requestFullResync();
+        }
+    }
+
+    /**
+     * 웹서버의 변경분 전송 지원 여부 설정 (응답의 capabilities로 결정)
+     */
+    public void setDeltaSupported(boolean deltaSupported) {
+        this.deltaSupported = deltaSupported;
+    }
+
+    public boolean isDeltaSupported() {
+        return deltaSupported;
+    }
+
+    public synchronized int getOnlineCount() {
+        return online.size();
+    }
+
+    public synchronized long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * 전송 단위 - 전체 목록 또는 변경분
+     */
+    public static class PresenceUpdate {
+        private final boolean full;
+        private final long sequence;
+        private final long baseSequence;
+        private final long resyncGeneration; // 준비 시점의 재전송 요청 세대
+        private final List<PlayerInfo> players;
+        private final List<String> removed;
+        private final int totalPlayers;
+
+        private PresenceUpdate(boolean full, long sequence, long baseSequence, long resyncGeneration,
+                               List<PlayerInfo> players, List<String> removed, int totalPlayers) {
+            this.full = full;
+            this.sequence = sequence;
+            this.baseSequence = baseSequence;
+            this.resyncGeneration = resyncGeneration;
+            this.players = players;
+            this.removed = removed;
+            this.totalPlayers = totalPlayers;
+        }
+
+        static PresenceUpdate full(long sequence, long resyncGeneration, List<PlayerInfo> players) {
+            return new PresenceUpdate(true, sequence, 0, resyncGeneration, players, List.of(), players.size());
+        }
+
+        static PresenceUpdate delta(long sequence, long baseSequence, long resyncGeneration, List<PlayerInfo> added,
+                                    List<String> removed, int totalPlayers) {
+            return new PresenceUpdate(false, sequence, baseSequence, resyncGeneration, added, removed, totalPlayers);
+        }
+
+        public boolean isFull() { return full; }
+        public long getSequence() { return sequence; }
+        public long getBaseSequence() { return baseSequence; }
+        public List<PlayerInfo> getPlayers() { return players; }
+        public List<String> getRemoved() { return removed; }
+        public int getTotalPlayers() { return totalPlayers; }
+    }
+}
@@ -0,0 +1,298 @@
+package com.gameboy.connector.communication;
+
+import com.gameboy.connector.metrics.ConnectorMetrics;
+import com.gameboy.connector.models.ServerInfo;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 서버 정보 변경 추적기
+ * 서버 정보를 항목 그룹별 지문(해시)으로 비교하여, 웹서버에는 마지막 전송 이후 바뀐 그룹의 필드만 보냅니다.
+ * 웹서버가 변경분 전송을 지원하지 않거나, 전송이 실패했거나, 웹서버가 요청한 경우에는 전체 정보를 보냅니다.
+ */
+public class ServerInfoTracker {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * 필드 그룹 - 같은 그룹의 필드는 함께 전송됨
+     * 목록에 없는 필드(모델에 새로 추가된 필드 등)는 IDENTITY에 포함됩니다.
+     */
+    public enum Group {
+        IDENTITY("serverCode", "serverName", "internalIp", "externalIp", "serverPort", "motd",
+                "version", "protocolVersion", "maxPlayers"),
+        ENVIRONMENT("javaVersion", "osInfo"),
+        SETTINGS("gamemode", "difficulty", "pvpEnabled", "whitelistEnabled", "opCount"),
+        WORLD("worldName", "worldSize", "chunksLoaded", "worlds"),
+        PLUGINS("plugins"),
+        STATUS("onlinePlayers", "tps", "serverUptime", "usedMemory", "totalMemory", "memoryPercentage"),
+        COMMANDS("commandsThrottled", "commandsThrottledPending");
+
+        private static final Map<String, Group> BY_FIELD = new HashMap<>();
+
+        static {
+            for (Group group : values()) {
+                for (String field : group.fields) {
+                    BY_FIELD.put(field, group);
+                }
+            }
+        }
+
+        private final String[] fields;
+
+        Group(String... fields) {
+            this.fields = fields;
+        }
+
+        static Group of(String field) {
+            return BY_FIELD.getOrDefault(field, IDENTITY);
+        }
+    }
+
+    private final Gson gson;
+    private final long fullResyncInterval;
+    private final long keepAliveInterval;
+    private final ConnectorMetrics metrics;
+
+    // 웹서버가 마지막으로 받은 그룹별 지문
+    private long[] sentFingerprints;
+    private long sequence = 0;
+    private long lastFullSyncTime = 0;
+    private long lastSendTime = 0;
+    private boolean fullResyncRequired = true;
+    private long resyncGeneration = 0; // 전체 재전송이 요청될 때마다 증가
+    private boolean updateInFlight = false;
+    private volatile boolean deltaSupported = false;
+
+    /**
+     * @param fullResyncInterval 변경분 전송 중에도 전체 정보를 다시 보내는 간격 (ms)
+     * @param keepAliveInterval  바뀐 항목이 없어도 상태 그룹을 보내는 간격 (ms),
+     *                           변경분 미지원 웹서버에는 이 간격마다 전체 정보를 보냄
+     */
+    public ServerInfoTracker(Gson gson, long fullResyncInterval, long keepAliveInterval, ConnectorMetrics metrics) {
+        this.gson = gson;
+        this.fullResyncInterval = fullResyncInterval;
+        this.keepAliveInterval = keepAliveInterval;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 다음 전송 시 전체 정보 재전송 요청 (연결 복구 등)
+     */
+    public synchronized void requestFullResync() {
+        fullResyncRequired = true;
+        resyncGeneration++;
+    }
+
+    /**
+     * 전송할 업데이트 준비
+     * 이전 업데이트가 진행 중이거나 보낼 항목이 없으면 null을 반환합니다.
+     */
+    public synchronized ServerInfoUpdate prepareUpdate(ServerInfo serverInfo, long currentTime) {
+        if (updateInFlight) {
+            return null;
+        }
+
+        // 변경분 미지원 웹서버에는 기존 주기로만 전체 정보 전송 (수집 주기가 짧아져도 전송량 유지)
+        if (!deltaSupported && currentTime - lastSendTime < keepAliveInterval) {
+            metrics.increment("server_info.skipped");
+            return null;
+        }
+
+        JsonObject tree = gson.toJsonTree(serverInfo).getAsJsonObject();
+        long[] fingerprints = fingerprint(tree);
+        boolean resyncDue = currentTime - lastFullSyncTime >= fullResyncInterval;
+
+        ServerInfoUpdate update;
+        if (!deltaSupported || fullResyncRequired || resyncDue || sentFingerprints == null) {
+            update = new ServerInfoUpdate(true, sequence + 1, 0, resyncGeneration, serverInfo, null, fingerprints);
+            metrics.increment("server_info.full");
+        } else {
+            boolean[] changed = new boolean[fingerprints.length];
+            boolean anyChanged = false;
+            for (int i = 0; i < fingerprints.length; i++) {
+                changed[i] = fingerprints[i] != sentFingerprints[i];
+                anyChanged |= changed[i];
+            }
+
+            // 바뀐 항목이 없으면 연결 유지 간격마다 상태 그룹만 전송
+            if (!anyChanged) {
+                if (currentTime - lastSendTime < keepAliveInterval) {
+                    metrics.increment("server_info.skipped");
+                    return null;
+                }
+                changed[Group.STATUS.ordinal()] = true;
+            }
+
+            JsonObject fields = new JsonObject();
+            for (Map.Entry<String, JsonElement> field : tree.entrySet()) {
+                if (changed[Group.of(field.getKey()).ordinal()]) {
+                    fields.add(field.getKey(), field.getValue());
+                }
+            }
+            update = new ServerInfoUpdate(false, sequence + 1, sequence, resyncGeneration, serverInfo, fields, fingerprints);
+            metrics.increment("server_info.delta");
+        }
+
+        updateInFlight = true;
+        return update;
+    }
+
+    /**
+     * 업데이트 전송 결과 반영
+     * 실패하면 웹서버가 가진 정보를 알 수 없으므로 다음에 전체 정보를 보냅니다.
+     *
+     * @param resyncRequested 웹서버가 순서 번호 불일치 등으로 전체 정보를 요청한 경우 true
+     */
+    public synchronized void complete(ServerInfoUpdate update, boolean success, boolean resyncRequested, long currentTime) {
+        updateInFlight = false;
+
+        if (!success) {
+            requestFullResync();
+            return;
+        }
+
+        lastSendTime = currentTime;
+        sequence = update.getSequence();
+        sentFingerprints = update.fingerprints;
+        if (update.isFull()) {
+            lastFullSyncTime = currentTime;
+            // 전송 중에 들어온 재전송 요청은 다음 전송에서 처리
+            if (update.resyncGeneration == resyncGeneration) {
+                fullResyncRequired = false;
+            }
+        }
+        if (resyncRequested) {
+            requestFullResync();
+        }
+    }
+
+    /**
+     * 그룹별 지문 계산 (FNV-1a 64비트)
+     */
+    private static long[] fingerprint(JsonObject tree) {
+        long[] fingerprints = new long[Group.values().length];
+        for (int i = 0; i < fingerprints.length; i++) {
+            fingerprints[i] = FNV_OFFSET;
+        }
+        for (Map.Entry<String, JsonElement> field : tree.entrySet()) {
+            int index = Group.of(field.getKey()).ordinal();
+            fingerprints[index] = hash(fingerprints[index], field.getKey());
+            fingerprints[index] = hash(fingerprints[index], fingerprintValue(field.getKey(), field.getValue()));
+        }
+        return fingerprints;
+    }
+
+    /**
+     * 지문에 쓰는 값 - 매번 조금씩 바뀌는 상태 값은 의미 있는 변화만 반영되도록 단위를 낮춤
+     * (가동 시간은 제외하고 상태 그룹을 보낼 때 함께 전송)
+     */
+    private static String fingerprintValue(String field, JsonElement value) {
+        switch (field) {
+            case "serverUptime":
+                return "";
+            case "tps":
+                return Long.toString(Math.round(value.getAsDouble() * 10)); // 0.1 단위
+            case "usedMemory":
+            case "totalMemory":
+                return Long.toString(value.getAsLong() >> 24); // 16MB 단위
+            case "memoryPercentage":
+                return Long.toString(Math.round(value.getAsDouble())); // 1% 단위
+            case "worldSize":
+                return sizeFingerprintValue(value); // 1MB 단위 (월드 크기는 저장될 때마다 바뀜)
+            case "worlds":
+                return worldsFingerprintValue(value);
+            default:
+                return value.toString();
+        }
+    }
+
+    /**
+     * 월드 목록 지문 값 - 월드별 크기만 1MB 단위로 낮추고 나머지는 그대로
+     */
+    private static String worldsFingerprintValue(JsonElement value) {
+        if (!value.isJsonArray()) {
+            return value.toString();
+        }
+        StringBuilder builder = new StringBuilder();
+        for (JsonElement element : value.getAsJsonArray()) {
+            if (!element.isJsonObject()) {
+                builder.append(element).append(';');
+                continue;
+            }
+            for (Map.Entry<String, JsonElement> field : element.getAsJsonObject().entrySet()) {
+                builder.append(field.getKey()).append('=');
+                builder.append(field.getKey().equals("size") ? sizeFingerprintValue(field.getValue()) : field.getValue().toString());
+                builder.append(',');
+            }
+            builder.append(';');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 월드 크기 지문 값 - 1MB 단위 (아직 계산하지 않아 null이면 빈 값)
+     */
+    private static String sizeFingerprintValue(JsonElement value) {
+        return value.isJsonNull() ? "" : Long.toString(value.getAsLong() >> 20);
+    }
+
+    private static long hash(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * 웹서버의 변경분 전송 지원 여부 설정 (응답의 capabilities로 결정)
+     */
+    public void setDeltaSupported(boolean deltaSupported) {
+        this.deltaSupported = deltaSupported;
+    }
+
+    public boolean isDeltaSupported() {
+        return deltaSupported;
+    }
+
+    public synchronized long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * 전송 단위 - 전체 정보 또는 바뀐 그룹의 필드
+     */
+    public static class ServerInfoUpdate {
+        private final boolean full;
+        private final long sequence;
+        private final long baseSequence;
+        private final long resyncGeneration; // 준비 시점의 재전송 요청 세대
+        private final ServerInfo serverInfo;
+        private final JsonObject fields;
+        private final long[] fingerprints;
+
+        private ServerInfoUpdate(boolean full, long sequence, long baseSequence, long resyncGeneration,
+                                 ServerInfo serverInfo, JsonObject fields, long[] fingerprints) {
+            this.full = full;
+            this.sequence = sequence;
+            this.baseSequence = baseSequence;
+            this.resyncGeneration = resyncGeneration;
+            this.serverInfo = serverInfo;
+            this.fields = fields;
+            this.fingerprints = fingerprints;
+        }
+
+        public boolean isFull() { return full; }
+        public long getSequence() { return sequence; }
+        public long getBaseSequence() { return baseSequence; }
+        public ServerInfo getServerInfo() { return serverInfo; }
+        /** 변경분에 포함할 필드 (전체 전송이면 null) */
+        public JsonObject getFields() { return fields; }
+    }
+}
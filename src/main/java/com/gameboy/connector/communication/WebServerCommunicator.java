@@ -1,21 +1,45 @@
 package com.gameboy.connector.communication;
 
 import com.gameboy.connector.GameboyConnector;
-import com.gameboy.connector.models.PlayerInfo;
+import com.gameboy.connector.commands.WebCommandExecutor;
+import com.gameboy.connector.metrics.CommandLatencyTracker;
+import com.gameboy.connector.metrics.ConnectorMetrics;
+import com.gameboy.connector.models.CommandStatusUpdate;
+import com.gameboy.connector.models.ModelTypeAdapters;
+import com.gameboy.connector.models.PendingCommand;
 import com.gameboy.connector.models.ServerInfo;
 import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
+import java.io.Closeable;
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 /**
  * 웹서버 통신 클래스
@@ -25,9 +49,74 @@ public class WebServerCommunicator {
 
     private final String baseUrl;
     private final String serverCode;
-    private final HttpClient httpClient;
+    private final HttpTransport transport;
     private final Gson gson;
-    private final GameboyConnector plugin;
+    private final JsonPayloads payloads;
+    private final ConnectorHost plugin;
+
+    // 명령어 폴링 중복 실행 방지 (이전 폴링의 명령어 처리가 끝나기 전에는 새로 폴링하지 않음)
+    private final AtomicBoolean pollInProgress = new AtomicBoolean(false);
+    private static final long COMMAND_EXECUTION_TIMEOUT = 5; // 메인 스레드 실행 대기 (초)
+    private static final String REFRESH_PLAYERS_COMMAND = "REFRESH_PLAYERS"; // 플레이어 목록 즉시 갱신 (웹서버 전용 명령어)
+    private static final long SHUTDOWN_NOTIFY_TIMEOUT = 3; // 종료 알림 대기 (초)
+
+    // 명령어 응답 본문 읽기 전용 스레드 (본문이 도착하는 동안 블로킹 읽기)
+    private final ExecutorService commandReaders;
+    private final long commandReadTimeout;
+
+    // 명령어 상태 일괄 전송 - 웹서버가 batch_status 기능을 알린 경우에만 사용
+    private static final String CAPABILITY_BATCH_STATUS = "batch_status";
+    private final int statusBatchSize;
+
+    // 플레이어 목록 변경분 전송 - 웹서버가 player_delta 기능을 알린 경우에만 사용
+    static final String CAPABILITY_PLAYER_DELTA = "player_delta";
+    private final PlayerPresenceTracker presenceTracker;
+
+    // 서버 정보 변경분 전송 - 웹서버가 server_info_delta 기능을 알린 경우에만 사용
+    static final String CAPABILITY_SERVER_INFO_DELTA = "server_info_delta";
+    private final ServerInfoTracker serverInfoTracker;
+
+    // 롱폴링 명령어 채널 (비활성화 시 null - 주기 폴링만 사용)
+    private final LongPollCommandChannel commandChannel;
+
+    // 전송 작업 디스패처 - 주기 작업을 우선순위 순서로 실행 (명령어 결과 > 명령어 수신 > 플레이어 목록 > 서버 정보)
+    private final OutboundDispatcher dispatcher;
+
+    // 롱폴링을 사용할 수 없을 때의 주기 폴링 (명령어 유입량에 따라 간격 조절)
+    private final AdaptivePollScheduler pollScheduler;
+
+    // 하트비트 모드 - 플레이어 목록/서버 정보/명령어 상태/폴링을 요청 하나로 묶음 (웹서버가 지원하는 경우)
+    private final HeartbeatChannel heartbeat;
+    private final long heartbeatMaxInterval;
+
+    // 장애 중 전송하지 못한 서버 정보/명령어 결과 보관 (비활성화 시 null)
+    private final OutboxJournal outbox;
+    private final int outboxDrainBatchSize;
+    private final AtomicBoolean outboxDraining = new AtomicBoolean(false);
+    private volatile boolean batchStatusSupported = false;
+    private static final String OUTBOX_FILE = "outbox.journal";
+
+    // 실행 완료된 명령어 기록 - 결과 보고 실패로 다시 받은 명령어는 실행하지 않고 기록된 상태로 응답
+    private final JournalWriter journalWriter; // 실행 기록/보류 명령어 파일 기록 스레드
+    private final ExecutedCommandCache executedCommands;
+    private static final String EXECUTED_COMMANDS_FILE = "executed-commands.journal";
+
+    // 명령어 단계별 지연 시간 (대기/실행/보고) 및 느린 명령어 로그 기준
+    private final CommandLatencyTracker latencyTracker;
+    private final long slowCommandNanos;
+
+    // 명령어 실행 속도 제한 (전체 + 플레이어별) - 한도를 넘은 명령어는 실행을 미룸
+    private final CommandRateLimiter rateLimiter;
+
+    // 접속하지 않은 플레이어의 보류 명령어 - 접속 시 실행 (비활성화 시 null)
+    private final DeferredCommandStore deferredCommands;
+    private final long deferredExpireTime;
+    private final Queue<CommandStatusUpdate> deferredResults = new ConcurrentLinkedQueue<>(); // 보고 대기 중인 보류 명령어 결과
+    private static final String DEFERRED_COMMANDS_FILE = "deferred-commands.journal";
+
+    // 엔드포인트
+    static final String PLAYER_LIST_ENDPOINT = "/plugin-player-list.php";
+    static final String COMMANDS_ENDPOINT = "/pending-commands.php";
 
     // 로그 최적화를 위한 변수들
     private long lastPlayerListLog = 0;
@@ -35,158 +124,408 @@ public class WebServerCommunicator {
     private boolean firstConnection = true;
     private static final long LOG_INTERVAL = 60000; // 1분 (60초)
 
-    // Circuit Breaker 패턴 - 연결 실패 시 부하 방지
-    private int consecutiveFailures = 0;
-    private long lastFailureTime = 0;
-    private boolean circuitOpen = false;
-    private static final int FAILURE_THRESHOLD = 3; // 3번 연속 실패 시 circuit open
-    private static final long CIRCUIT_RESET_TIME = 30000; // 30초 후 재시도
-    private static final long BACKOFF_BASE_TIME = 5000; // 5초 기본 백오프
-    private static final long MAX_BACKOFF_TIME = 60000; // 최대 60초 백오프
+    // Circuit Breaker 패턴 - 연결 실패 시 부하 방지 (엔드포인트별)
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
     
     public WebServerCommunicator(String baseUrl, String serverCode) {
+        this(GameboyConnector.getInstance(), baseUrl, serverCode);
+    }
+
+    /**
+     * @param plugin 설정/로그/지표/명령어 실행을 제공하는 플러그인 (부하 테스트에서는 서버 없는 구현)
+     */
+    public WebServerCommunicator(ConnectorHost plugin, String baseUrl, String serverCode) {
         this.baseUrl = baseUrl;
         this.serverCode = serverCode;
-        this.plugin = GameboyConnector.getInstance();
-        this.gson = new Gson();
+        this.plugin = plugin;
+        this.gson = ModelTypeAdapters.register(new GsonBuilder()).create();
+        this.payloads = new JsonPayloads(gson, serverCode);
 
-        // HTTP 클라이언트 설정 - 타임아웃 단축으로 빠른 실패
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(3)) // 10초 → 3초로 단축
-                .build();
+        // HTTP 전송 계층 설정 - 타임아웃 단축으로 빠른 실패, 동시 요청 수 제한
+        int connectTimeout = plugin.getConfig().getInt("web_server.connect_timeout", 3);
+        int requestTimeout = plugin.getConfig().getInt("web_server.request_timeout", 5);
+        int maxInFlight = plugin.getConfig().getInt("web_server.max_in_flight_requests", 4);
+        int maxQueued = plugin.getConfig().getInt("web_server.max_queued_requests", 64);
+        BodyCompressor compressor = new BodyCompressor(
+                BodyCompressor.Mode.fromConfig(plugin.getConfig().getString("web_server.compression", "none")),
+                plugin.getConfig().getInt("web_server.compression_threshold", 1024),
+                plugin.getConfig().getInt("web_server.compression_level", 6),
+                plugin.getMetrics()
+        );
+        this.transport = new HttpTransport(
+                baseUrl,
+                serverCode,
+                Duration.ofSeconds(connectTimeout),
+                Duration.ofSeconds(requestTimeout),
+                maxInFlight,
+                maxQueued,
+                compressor
+        );
+        this.statusBatchSize = Math.max(1, plugin.getConfig().getInt("command_execution.status_batch_size", 50));
+        this.rateLimiter = new CommandRateLimiter(plugin.getConfig(), plugin.getMetrics());
+        this.latencyTracker = new CommandLatencyTracker(plugin.getMetrics());
+        this.slowCommandNanos = TimeUnit.MILLISECONDS.toNanos(plugin.getConfig().getLong("command_execution.slow_command_ms", 50));
+        this.commandReadTimeout = requestTimeout * 1000L;
+        this.commandReaders = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "GameboyConnector-CommandReader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.presenceTracker = new PlayerPresenceTracker(
+                plugin.getConfig().getInt("player_sync.full_resync_interval", 300) * 1000L);
+        this.serverInfoTracker = new ServerInfoTracker(
+                gson,
+                plugin.getConfig().getInt("server_info_sync.full_resync_interval", 600) * 1000L,
+                plugin.getConfig().getInt("web_server.update_interval", 60) * 1000L,
+                plugin.getMetrics()
+        );
+
+        if (plugin.getConfig().getBoolean("command_channel.long_poll", true)) {
+            this.commandChannel = new LongPollCommandChannel(
+                    this,
+                    transport,
+                    plugin.getPluginLogger(),
+                    serverCode,
+                    plugin.getConfig().getInt("command_channel.long_poll_wait", 25)
+            );
+        } else {
+            this.commandChannel = null;
+        }
+
+        this.heartbeat = new HeartbeatChannel(
+                this,
+                payloads,
+                presenceTracker,
+                serverInfoTracker,
+                plugin.getPluginLogger(),
+                plugin.getConfig().getBoolean("heartbeat.enabled", true)
+        );
+        this.heartbeatMaxInterval = plugin.getConfig().getInt("heartbeat.max_interval", 10) * 1000L;
+
+        OutboundDispatcher.Priority[] priorities = OutboundDispatcher.Priority.values();
+        long[] minIntervals = new long[priorities.length];
+        for (OutboundDispatcher.Priority priority : priorities) {
+            minIntervals[priority.ordinal()] = plugin.getConfig().getLong(
+                    "dispatcher.min_interval_ms." + priority.getConfigName(), 0);
+        }
+        this.dispatcher = new OutboundDispatcher(
+                plugin.getConfig().getInt("dispatcher.startup_jitter", 10) * 1000L,
+                minIntervals,
+                transport::getQueuedCount,
+                plugin.getPluginLogger(),
+                plugin.getMetrics()
+        );
+
+        this.pollScheduler = new AdaptivePollScheduler(
+                this::pollCommands,
+                dispatcher,
+                plugin.getConfig().getLong("command_channel.poll_min_interval_ms", 500),
+                plugin.getConfig().getLong("command_channel.poll_max_interval_ms", 30000),
+                plugin.getConfig().getDouble("command_channel.poll_decay", 1.5),
+                plugin.getPluginLogger(),
+                plugin.getMetrics()
+        );
+
+        this.outboxDrainBatchSize = Math.max(1, plugin.getConfig().getInt("outbox.drain_batch_size", 50));
+        this.outbox = openOutbox();
+        this.journalWriter = new JournalWriter(plugin.getPluginLogger());
+        this.executedCommands = ExecutedCommandCache.open(
+                plugin.getConfig().getBoolean("command_execution.dedupe_persist", true)
+                        ? plugin.getDataFolder().toPath().resolve(EXECUTED_COMMANDS_FILE) : null,
+                plugin.getConfig().getInt("command_execution.dedupe_size", 4096),
+                journalWriter,
+                plugin.getPluginLogger(),
+                plugin.getMetrics()
+        );
+        this.deferredCommands = plugin.getConfig().getBoolean("deferred_commands.enabled", true)
+                ? DeferredCommandStore.open(
+                        plugin.getDataFolder().toPath().resolve(DEFERRED_COMMANDS_FILE),
+                        plugin.getConfig().getInt("deferred_commands.max_size", 10000),
+                        journalWriter,
+                        plugin.getPluginLogger(),
+                        plugin.getMetrics())
+                : null;
+        this.deferredExpireTime = TimeUnit.HOURS.toMillis(Math.max(1, plugin.getConfig().getInt("deferred_commands.expire_hours", 168)));
     }
-    
+
     /**
-     * Circuit Breaker 확인 - 연결 실패 시 요청 스킵
+     * 전송 대기함 열기 - 이전 실행에서 남은 메시지는 연결이 확인되면 전송됨
      */
-    private boolean shouldSkipRequest() {
-        long currentTime = System.currentTimeMillis();
-
-        // Circuit이 열려있는 경우
-        if (circuitOpen) {
-            // 재시도 시간이 지났는지 확인
-            if (currentTime - lastFailureTime >= CIRCUIT_RESET_TIME) {
-                plugin.getPluginLogger().info("웹서버 연결 재시도 중...");
-                circuitOpen = false;
-                consecutiveFailures = 0;
-                return false;
-            }
-            return true; // 아직 재시도 시간이 안됨
+    private OutboxJournal openOutbox() {
+        if (!plugin.getConfig().getBoolean("outbox.enabled", true)) {
+            return null;
         }
-
-        // Exponential backoff - 연속 실패 시 대기 시간 증가
-        if (consecutiveFailures > 0) {
-            long backoffTime = Math.min(
-                BACKOFF_BASE_TIME * (long) Math.pow(2, consecutiveFailures - 1),
-                MAX_BACKOFF_TIME
+        try {
+            return OutboxJournal.open(
+                    plugin.getDataFolder().toPath().resolve(OUTBOX_FILE),
+                    plugin.getConfig().getInt("outbox.max_size_kb", 1024) * 1024,
+                    plugin.getPluginLogger(),
+                    plugin.getMetrics()
             );
-            if (currentTime - lastFailureTime < backoffTime) {
-                return true; // 백오프 시간 동안 요청 스킵
-            }
+        } catch (Exception e) {
+            plugin.getPluginLogger().severe("전송 대기함을 열 수 없습니다. 장애 중 데이터는 보관되지 않습니다: " + e.getMessage());
+            return null;
         }
+    }
 
-        return false;
+    /**
+     * 명령어 수신 시작 - 롱폴링 채널과 적응형 폴링
+     * 롱폴링이 동작하는 동안 주기 폴링은 요청을 보내지 않습니다 (설정에서 비활성화된 경우 주기 폴링만 사용).
+     * 여러 서버가 동시에 재시작해도 요청이 몰리지 않도록 무작위 지연 후 시작합니다.
+     */
+    public void startCommandChannel() {
+        dispatcher.submitDelayed(OutboundDispatcher.Priority.COMMAND_FETCH, "command-channel-start",
+                dispatcher.jitter(Long.MAX_VALUE), () -> {
+                    if (commandChannel != null) {
+                        commandChannel.start();
+                    }
+                    pollScheduler.start();
+                });
     }
 
     /**
-     * 연결 성공 처리
+     * 통신 종료 - 디스패처와 롱폴링 채널 정지, 전송 대기함 닫기
      */
-    private void recordSuccess() {
-        if (consecutiveFailures > 0 || circuitOpen) {
-            plugin.getPluginLogger().info("웹서버 연결 복구됨");
+    public void shutdown() {
+        pollScheduler.stop();
+        dispatcher.shutdown();
+        if (commandChannel != null) {
+            commandChannel.stop();
         }
-        consecutiveFailures = 0;
-        circuitOpen = false;
+        commandReaders.shutdownNow();
+        if (outbox != null) {
+            outbox.close();
+        }
+        executedCommands.close();
+        if (deferredCommands != null) {
+            deferredCommands.close();
+        }
+        journalWriter.close();
+    }
+    
+    /**
+     * 엔드포인트별 Circuit Breaker (쿼리 문자열 제외한 경로 기준)
+     * 한 엔드포인트의 장애가 다른 엔드포인트의 요청을 막지 않습니다.
+     */
+    CircuitBreaker breaker(String endpoint) {
+        int query = endpoint.indexOf('?');
+        String path = query >= 0 ? endpoint.substring(0, query) : endpoint;
+        return breakers.computeIfAbsent(path, this::createBreaker);
+    }
+
+    private CircuitBreaker createBreaker(String path) {
+        // 로그와 지표에는 API 경로 대신 짧은 이름 사용
+        String name = path.replace("/", "").replace(".php", "").replace("plugin-", "");
+        CircuitBreaker breaker = new CircuitBreaker(
+                name,
+                plugin.getConfig().getInt("web_server.failure_threshold", 3),
+                plugin.getConfig().getInt("web_server.circuit_failure_rate", 50) / 100.0,
+                plugin.getConfig().getInt("web_server.circuit_minimum_requests", 10),
+                plugin.getConfig().getInt("web_server.slow_request_time", 3) * 1000L,
+                plugin.getConfig().getInt("web_server.circuit_window", 60) * 1000L,
+                plugin.getConfig().getInt("web_server.circuit_reset_time", 30) * 1000L,
+                plugin.getConfig().getInt("web_server.max_backoff_time", 60) * 1000L,
+                this::onCircuitStateChange
+        );
+
+        ConnectorMetrics metrics = plugin.getMetrics();
+        metrics.registerGauge("circuit." + name + ".state", () -> breaker.getState().ordinal());
+        metrics.registerGauge("circuit." + name + ".failure_rate", breaker::getFailureRate);
+        metrics.registerGauge("circuit." + name + ".avg_latency_ms", breaker::getAverageLatencyMillis);
+        return breaker;
     }
 
     /**
-     * 연결 실패 처리
+     * Circuit Breaker 상태 변경 - 로그 출력 및 지표 기록
      */
-    private void recordFailure() {
-        consecutiveFailures++;
-        lastFailureTime = System.currentTimeMillis();
+    private void onCircuitStateChange(CircuitBreaker breaker, CircuitBreaker.State from, CircuitBreaker.State to) {
+        plugin.getMetrics().increment("circuit." + breaker.getName() + "." + to.name().toLowerCase(Locale.ROOT));
 
-        if (consecutiveFailures >= FAILURE_THRESHOLD && !circuitOpen) {
-            circuitOpen = true;
-            plugin.getPluginLogger().warning(
-                "웹서버 연결 실패가 " + FAILURE_THRESHOLD + "회 연속 발생했습니다. " +
-                (CIRCUIT_RESET_TIME / 1000) + "초 후 재시도합니다."
-            );
+        switch (to) {
+            case OPEN:
+                plugin.getPluginLogger().warning(
+                    "웹서버 연결 실패가 반복되어 요청을 중단합니다 (" + breaker.getName() + "). " +
+                    (breaker.getOpenDuration() / 1000) + "초 후 재시도합니다."
+                );
+                break;
+            case HALF_OPEN:
+                plugin.getPluginLogger().info("웹서버 연결 재시도 중... (" + breaker.getName() + ")");
+                break;
+            case CLOSED:
+                plugin.getPluginLogger().info("웹서버 연결 복구됨 (" + breaker.getName() + ")");
+                // 장애 중 웹서버가 가진 서버 정보를 알 수 없으므로 재연결 후 전체 정보 전송
+                serverInfoTracker.requestFullResync();
+                break;
         }
     }
 
+    /**
+     * 비동기 요청 완료 시 Circuit Breaker 상태 반영 (응답 시간 포함)
+     * 동시 요청 한도 초과로 거절된 요청은 웹서버 장애가 아니므로 실패로 집계하지 않습니다.
+     */
+    <T> CompletableFuture<T> trackResult(CircuitBreaker breaker, CompletableFuture<T> future, String failureMessage) {
+        long startTime = System.nanoTime();
+        return future.whenComplete((result, error) -> {
+            long latency = System.nanoTime() - startTime;
+            if (error == null) {
+                breaker.onSuccess(latency);
+                flushOutbox();
+                return;
+            }
+
+            Throwable cause = unwrap(error);
+            if (cause instanceof RejectedExecutionException) {
+                breaker.onIgnored();
+                plugin.getPluginLogger().debug(failureMessage + ": " + cause.getMessage());
+                return;
+            }
+
+            breaker.onFailure(latency);
+            plugin.getPluginLogger().severe(failureMessage + ": " + cause.getMessage());
+        });
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
     /**
      * 플레이어 목록을 웹서버로 전송
+     * 웹서버가 player_delta 기능을 지원하면 마지막 전송 이후의 변경분만 보내고,
+     * 변경이 없으면 요청을 보내지 않습니다.
      */
-    public void updatePlayerList(List<PlayerInfo> players) {
-        // Circuit Breaker 확인
-        if (shouldSkipRequest()) {
+    public void updatePlayerList() {
+        // 하트비트 모드에서는 하트비트에 변경분이 포함됨
+        if (heartbeat.isActive()) {
             return;
         }
 
-        try {
-            JsonObject requestData = new JsonObject();
-            requestData.addProperty("server_code", serverCode);
-            requestData.addProperty("timestamp", Instant.now().toString());
-            requestData.add("online_players", gson.toJsonTree(players));
-            requestData.addProperty("total_players", players.size());
+        PlayerPresenceTracker.PresenceUpdate update = presenceTracker.prepareUpdate(System.currentTimeMillis());
+        if (update == null) {
+            return;
+        }
+
+        // Circuit Breaker 확인 - 보내지 못한 변경분은 복구 후 전체 목록으로 대체됨
+        CircuitBreaker breaker = breaker(PLAYER_LIST_ENDPOINT);
+        if (!breaker.tryAcquire()) {
+            presenceTracker.complete(update, false, false, System.currentTimeMillis());
+            return;
+        }
+
+        String timestamp = Instant.now().toString();
+        trackResult(breaker, sendRequest(PLAYER_LIST_ENDPOINT, payloads.playerUpdate(update, timestamp)), "플레이어 목록 전송 실패")
+                .whenComplete((response, error) -> {
+                    boolean resyncRequested = false;
+                    if (error == null) {
+                        JsonObject responseJson = parseResponse(response);
+                        presenceTracker.setDeltaSupported(hasCapability(responseJson, CAPABILITY_PLAYER_DELTA));
+                        heartbeat.onCapabilities(hasCapability(responseJson, HeartbeatChannel.CAPABILITY_HEARTBEAT));
+                        resyncRequested = isResyncRequested(responseJson, update.getSequence());
+                    }
+                    presenceTracker.complete(update, error == null, resyncRequested, System.currentTimeMillis());
+                });
+    }
 
-            sendRequest("/plugin-player-list.php", requestData);
-            recordSuccess();
+    /**
+     * 웹서버가 전체 목록 재전송을 요청했는지 확인 (resync 플래그 또는 순서 번호 불일치)
+     */
+    boolean isResyncRequested(JsonObject responseJson, long sentSequence) {
+        if (responseJson.has("resync") && responseJson.get("resync").getAsBoolean()) {
+            return true;
+        }
+        return responseJson.has("seq") && responseJson.get("seq").getAsLong() != sentSequence;
+    }
 
+    /**
+     * 응답 본문을 JSON으로 변환 (JSON이 아니면 빈 객체)
+     */
+    JsonObject parseResponse(String response) {
+        try {
+            JsonObject responseJson = gson.fromJson(response, JsonObject.class);
+            return responseJson != null ? responseJson : new JsonObject();
         } catch (Exception e) {
-            recordFailure();
-            plugin.getPluginLogger().severe("플레이어 목록 전송 실패: " + e.getMessage());
+            return new JsonObject();
         }
     }
     
     /**
-     * 서버 정보를 웹서버로 전송
+     * 서버 정보를 웹서버로 전송 (하트비트 모드에서는 다음 하트비트에 포함)
+     * 웹서버가 server_info_delta 기능을 지원하면 마지막 전송 이후 바뀐 항목만 보내고,
+     * 지원하지 않으면 web_server.update_interval마다 전체 정보를 보냅니다.
+     * 전송은 디스패처에서 가장 낮은 우선순위로 실행되며, 아직 보내지 않은 이전 정보는 최신 정보로 대체됩니다.
      */
     public void sendServerInfo(ServerInfo serverInfo) {
-        // Circuit Breaker 확인
-        if (shouldSkipRequest()) {
+        dispatcher.submit(OutboundDispatcher.Priority.SERVER_INFO, "server-info", () -> dispatchServerInfo(serverInfo));
+    }
+
+    private void dispatchServerInfo(ServerInfo serverInfo) {
+        if (heartbeat.isActive()) {
+            heartbeat.stageServerInfo(serverInfo);
             return;
         }
 
-        try {
-            JsonObject requestData = new JsonObject();
-            requestData.addProperty("server_code", serverCode);
-            requestData.addProperty("timestamp", Instant.now().toString());
-            requestData.add("server_info", gson.toJsonTree(serverInfo));
-
-            sendRequest("/plugin-server-info.php", requestData);
-            recordSuccess();
+        ServerInfoTracker.ServerInfoUpdate update = serverInfoTracker.prepareUpdate(serverInfo, System.currentTimeMillis());
+        if (update == null) {
+            return;
+        }
 
-        } catch (Exception e) {
-            recordFailure();
-            plugin.getPluginLogger().severe("서버 정보 전송 실패: " + e.getMessage());
+        // Circuit Breaker 확인 - 연결 장애 중이면 최신 정보만 대기함에 보관
+        CircuitBreaker breaker = breaker(OutboxJournal.Type.SERVER_INFO.getEndpoint());
+        if (!breaker.tryAcquire()) {
+            serverInfoTracker.complete(update, false, false, System.currentTimeMillis());
+            deferServerInfo(serverInfo);
+            return;
         }
+
+        String timestamp = Instant.now().toString();
+        HttpTransport.BodyWriter body = payloads.serverInfoUpdate(update, timestamp);
+        trackResult(breaker, sendRequest(OutboxJournal.Type.SERVER_INFO.getEndpoint(), body), "서버 정보 전송 실패")
+                .whenComplete((response, error) -> {
+                    boolean resyncRequested = false;
+                    if (error == null) {
+                        JsonObject responseJson = parseResponse(response);
+                        serverInfoTracker.setDeltaSupported(hasCapability(responseJson, CAPABILITY_SERVER_INFO_DELTA));
+                        resyncRequested = isResyncRequested(responseJson, update.getSequence());
+                        onServerInfoDelivered();
+                    } else if (isRetryable(error)) {
+                        deferServerInfo(serverInfo);
+                    }
+                    serverInfoTracker.complete(update, error == null, resyncRequested, System.currentTimeMillis());
+                });
     }
     
     /**
-     * 웹서버 연결 테스트
+     * 서버 정보 전송 완료 - 더 최신 정보가 전송되었으므로 대기함에 보관 중인 정보는 필요 없음
      */
-    public boolean testConnection() {
-        try {
-            JsonObject requestData = new JsonObject();
-            requestData.addProperty("server_code", serverCode);
-            requestData.addProperty("timestamp", Instant.now().toString());
-            requestData.addProperty("test", true);
-            
-            String response = sendRequest("/plugin-test.php", requestData);
-            JsonObject responseJson = gson.fromJson(response, JsonObject.class);
-            
-            return responseJson.get("status").getAsString().equals("success");
-            
-        } catch (Exception e) {
-            plugin.getPluginLogger().severe("웹서버 연결 테스트 실패: " + e.getMessage());
-            return false;
+    void onServerInfoDelivered() {
+        if (outbox != null) {
+            outbox.remove(OutboxJournal.Type.SERVER_INFO, 0);
         }
     }
+
+    /**
+     * 웹서버 연결 테스트 (결과는 비동기로 전달)
+     */
+    public CompletableFuture<Boolean> testConnection() {
+        JsonObject requestData = new JsonObject();
+        requestData.addProperty("server_code", serverCode);
+        requestData.addProperty("timestamp", Instant.now().toString());
+        requestData.addProperty("test", true);
+
+        return sendRequest("/plugin-test.php", payloads.element(requestData))
+                .thenApply(response -> {
+                    JsonObject responseJson = gson.fromJson(response, JsonObject.class);
+                    return responseJson.get("status").getAsString().equals("success");
+                })
+                .exceptionally(e -> {
+                    plugin.getPluginLogger().severe("웹서버 연결 테스트 실패: " + unwrap(e).getMessage());
+                    return false;
+                });
+    }
     
     /**
      * 서버 종료 알림을 웹서버로 전송
+     * 플러그인 비활성화 중에는 전송이 끝나기 전에 종료되지 않도록 짧게 대기합니다.
      */
     public void sendServerShutdown() {
         try {
@@ -195,55 +534,25 @@ public class WebServerCommunicator {
             requestData.addProperty("timestamp", Instant.now().toString());
             requestData.addProperty("action", "server_shutdown");
             
-            sendRequest("/server-shutdown.php", requestData);
+            sendRequest("/server-shutdown.php", payloads.element(requestData)).get(SHUTDOWN_NOTIFY_TIMEOUT, TimeUnit.SECONDS);
             
         } catch (Exception e) {
-            plugin.getPluginLogger().severe("서버 종료 알림 전송 실패: " + e.getMessage());
+            plugin.getPluginLogger().severe("서버 종료 알림 전송 실패: " + unwrap(e).getMessage());
         }
     }
     
     /**
-     * 명령어 실행 결과를 웹서버로 전송
+     * HTTP 요청 전송 (비동기)
+     * 2xx 이외의 응답은 HttpStatusException으로 실패 처리됩니다.
      */
-    public void sendCommandResult(String command, String playerName, boolean success, String output, long executionTime) {
-        try {
-            JsonObject requestData = new JsonObject();
-            requestData.addProperty("server_code", serverCode);
-            requestData.addProperty("timestamp", Instant.now().toString());
-            requestData.addProperty("original_command", command);
-            requestData.addProperty("executed_command", command.replace("<player>", playerName));
-            requestData.addProperty("player_name", playerName);
-            requestData.addProperty("success", success);
-            requestData.addProperty("output", output);
-            requestData.addProperty("execution_time", executionTime);
-            
-            sendRequest("/command-result.php", requestData);
-            
-        } catch (Exception e) {
-            plugin.getPluginLogger().severe("명령어 실행 결과 전송 실패: " + e.getMessage());
-        }
+    CompletableFuture<String> sendRequest(String endpoint, HttpTransport.BodyWriter body) {
+        return transport.postJson(endpoint, body).thenApply(this::checkResponse);
     }
-    
+
     /**
-     * HTTP 요청 전송
+     * 응답 상태 코드 확인
      */
-    private String sendRequest(String endpoint, JsonObject data) throws IOException, InterruptedException {
-        String url = baseUrl + endpoint;
-        String jsonData = gson.toJson(data);
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("Content-Type", "application/json")
-                .header("X-Server-Code", serverCode)
-                .header("User-Agent", "GameboyConnector/1.0")
-                .POST(HttpRequest.BodyPublishers.ofString(jsonData))
-                .timeout(Duration.ofSeconds(5)) // 30초 → 5초로 단축
-                .build();
-
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-        
-        long currentTime = System.currentTimeMillis();
-        
+    private <T> T checkResponse(HttpResponse<T> response) {
         if (response.statusCode() >= 200 && response.statusCode() < 300) {
             // 첫 연결 시에만 성공 로그 출력 (API 경로 숨김)
             if (firstConnection) {
@@ -251,11 +560,22 @@ public class WebServerCommunicator {
                 firstConnection = false;
             }
             // 주기적 통신 로그는 제거 (보안상 API 경로 노출 방지)
-        } else {
-            plugin.getPluginLogger().warning("웹서버 통신 실패 (상태: " + response.statusCode() + ")");
+            return response.body();
+        }
+
+        if (response.body() instanceof Closeable) {
+            closeQuietly((Closeable) response.body());
+        }
+        plugin.getPluginLogger().warning("웹서버 통신 실패 (상태: " + response.statusCode() + ")");
+        throw new CompletionException(new HttpStatusException(response.statusCode()));
+    }
+
+    static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // 이미 닫힌 연결
         }
-        
-        return response.body();
     }
     
     /**
@@ -280,145 +600,952 @@ public class WebServerCommunicator {
      * 웹서버에서 명령어 실행 요청 받기
      */
     public void handleCommandRequest(String command, String playerName) {
-        plugin.executeWebCommand(command, playerName);
+        plugin.runWebCommand(command, playerName);
     }
     
+    /**
+     * 폴링 스케줄러의 1회 실행
+     * 하트비트 모드에서는 하트비트를 보내고(롱폴링 동작 중에는 명령어 폴링 제외), 아니면 명령어 폴링만 합니다.
+     * 하트비트에 플레이어 목록이 포함되므로 하트비트 모드에서는 폴링 간격을 heartbeatMaxInterval 이하로 유지합니다.
+     */
+    private CompletableFuture<Integer> pollCommands() {
+        if (!heartbeat.isActive()) {
+            pollScheduler.setIntervalCap(Long.MAX_VALUE);
+            return pollAndExecuteCommands();
+        }
+
+        pollScheduler.setIntervalCap(heartbeatMaxInterval);
+        if (commandChannel != null) {
+            commandChannel.retryIfDue();
+        }
+
+        // 하트비트로 받은 명령어도 처리가 끝날 때까지 롱폴링/다음 폴링이 같은 명령어를 다시 받지 않도록 표시
+        boolean poll = !isLongPollActive() && pollInProgress.compareAndSet(false, true);
+        CompletableFuture<Integer> sent = heartbeat.send(poll);
+        return poll ? sent.whenComplete((received, error) -> pollInProgress.set(false)) : sent;
+    }
+
     /**
      * 대기 중인 명령어들을 웹서버에서 가져와서 실행
+     * 응답 대기와 메인 스레드 실행 대기는 모두 비동기 콜백으로 처리되어 스레드를 점유하지 않습니다.
+     * 롱폴링 채널이 동작 중이면 채널이 명령어를 수신하므로 건너뜁니다.
+     *
+     * @return 받은 명령어 수 (요청을 보내지 않았으면 AdaptivePollScheduler.SKIPPED)
      */
-    public void pollAndExecuteCommands() {
+    public CompletableFuture<Integer> pollAndExecuteCommands() {
+        if (commandChannel != null) {
+            commandChannel.retryIfDue();
+            if (commandChannel.isActive()) {
+                return CompletableFuture.completedFuture(AdaptivePollScheduler.SKIPPED);
+            }
+        }
+
+        // 이전 폴링의 명령어들이 아직 처리 중이면 건너뜀
+        if (!pollInProgress.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(AdaptivePollScheduler.SKIPPED);
+        }
+
         // Circuit Breaker 확인
-        if (shouldSkipRequest()) {
-            return;
+        CircuitBreaker breaker = breaker(COMMANDS_ENDPOINT);
+        if (!breaker.tryAcquire()) {
+            pollInProgress.set(false);
+            return CompletableFuture.completedFuture(AdaptivePollScheduler.SKIPPED);
         }
 
+        // GET 요청으로 대기 중인 명령어 조회 - 응답 본문은 도착하는 대로 읽으면서 실행
+        HttpRequest request = transport.newRequest(COMMANDS_ENDPOINT + "?server_code=" + serverCode)
+                .GET()
+                .build();
+        return trackResult(breaker, transport.send(request, HttpResponse.BodyHandlers.ofInputStream()).thenApply(this::checkResponse), "명령어 폴링 실패")
+                .thenCompose(body -> streamPendingCommands(body, commandReadTimeout))
+                .thenApply(PendingCommandReader.Result::getCommandCount)
+                .whenComplete((received, error) -> pollInProgress.set(false));
+    }
+
+    /**
+     * 폴링 응답에 포함된 명령어 수
+     */
+    static int countPendingCommands(JsonObject responseJson) {
+        JsonArray commands = responseJson.getAsJsonArray("pending_commands");
+        return commands != null ? commands.size() : 0;
+    }
+
+    /**
+     * 명령어 응답 본문을 스트림으로 읽으면서 명령어 실행
+     * 응답을 다 받기 전에 앞쪽 명령어부터 실행이 시작되며, 반환된 future는 모든 명령어 실행과 상태 전송이 끝나면 완료됩니다.
+     * 읽기 도중 오류가 나도 이미 받은 명령어는 실행한 뒤 오류를 전달합니다.
+     *
+     * @param readTimeout 본문 읽기 제한 시간 (ms, 초과 시 연결을 닫음)
+     */
+    CompletableFuture<PendingCommandReader.Result> streamPendingCommands(InputStream body, long readTimeout) {
+        CommandStream stream = new CommandStream();
+        CompletableFuture<PendingCommandReader.Result> read;
         try {
-            // GET 요청으로 대기 중인 명령어 조회
-            String url = baseUrl + "/pending-commands.php?server_code=" + serverCode;
-
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .header("X-Server-Code", serverCode)
-                    .header("User-Agent", "GameboyConnector/1.0")
-                    .GET()
-                    .timeout(Duration.ofSeconds(5)) // 30초 → 5초로 단축
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            
-            if (response.statusCode() >= 200 && response.statusCode() < 300) {
-                recordSuccess(); // 연결 성공
-                JsonObject responseJson = gson.fromJson(response.body(), JsonObject.class);
-
-                if (responseJson.get("status").getAsString().equals("success")) {
-                    var pendingCommands = responseJson.getAsJsonArray("pending_commands");
-
-                    for (var commandElement : pendingCommands) {
-                        JsonObject command = commandElement.getAsJsonObject();
-
-                        int queueId = command.get("id").getAsInt();
-                        String playerName = command.get("player_name").getAsString();
-                        String commandString = command.get("command_string").getAsString();
-
-                        // 명령어 상태를 processing으로 변경
-                        updateCommandStatus(queueId, "processing", null);
-
-                        // 특수 명령어 처리
-                        if (commandString.equals("REFRESH_PLAYERS")) {
-                            // 플레이어 목록 즉시 갱신
-                            try {
-                                List<PlayerInfo> players = plugin.getServer().getOnlinePlayers().stream()
-                                    .map(player -> {
-                                        PlayerInfo playerInfo = new PlayerInfo();
-                                        playerInfo.setPlayerId(player.getName());
-                                        playerInfo.setPlayerUuid(player.getUniqueId().toString());
-                                        return playerInfo;
-                                    })
-                                    .toList();
-
-                                updatePlayerList(players);
-                                updateCommandStatus(queueId, "completed", null);
-                                plugin.getPluginLogger().info("플레이어 목록 즉시 갱신 완료");
-                                continue;
-                            } catch (Exception e) {
-                                plugin.getPluginLogger().severe("플레이어 ���록 갱신 실패: " + e.getMessage());
-                                updateCommandStatus(queueId, "failed", null);
-                                continue;
-                            }
-                        }
-
-                        // 일반 명령어 실행 (메인 스레드에서)
-                        GameboyConnector.CommandExecutionResult cmdResult = null;
-                        try {
-                            // CompletableFuture를 사용해서 메인 스레드에서 실행하고 결과를 기다림
-                            CompletableFuture<GameboyConnector.CommandExecutionResult> future = new CompletableFuture<>();
-
-                            plugin.getServer().getScheduler().runTask(plugin, () -> {
-                                try {
-                                    GameboyConnector.CommandExecutionResult result = plugin.executeWebCommand(commandString, playerName);
-                                    future.complete(result);
-                                } catch (Exception e) {
-                                    plugin.getPluginLogger().severe("명령어 실행 중 오류: " + e.getMessage());
-                                    GameboyConnector.CommandExecutionResult errorResult = new GameboyConnector.CommandExecutionResult();
-                                    errorResult.setSuccess(false);
-                                    errorResult.setOutput("오류: " + e.getMessage());
-                                    future.complete(errorResult);
+            read = CompletableFuture.supplyAsync(() -> stream.read(body), commandReaders);
+        } catch (RejectedExecutionException e) {
+            closeQuietly(body);
+            return CompletableFuture.failedFuture(e);
+        }
+
+        // 응답이 중간에 멈추면 읽기 스레드가 계속 대기하지 않도록 연결을 닫음
+        CompletableFuture.delayedExecutor(readTimeout, TimeUnit.MILLISECONDS).execute(() -> {
+            if (!read.isDone()) {
+                closeQuietly(body);
+            }
+        });
+
+        return read
+                .handle((result, error) -> stream.finish().thenApply(ignored -> {
+                    if (error != null) {
+                        throw new CompletionException(unwrap(error));
+                    }
+                    return result;
+                }))
+                .thenCompose(done -> done);
+    }
+
+    /**
+     * 이미 파싱된 응답의 명령어들을 순서대로 실행 (하트비트 응답용)
+     * 웹서버가 일괄 상태 업데이트를 지원하면 상태 변경을 묶어서 전송합니다.
+     */
+    CompletableFuture<Void> executePendingCommands(JsonObject responseJson) {
+        if (!PendingCommandReader.isSuccess(responseJson)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        heartbeat.onCapabilities(hasCapability(responseJson, HeartbeatChannel.CAPABILITY_HEARTBEAT));
+
+        JsonArray pendingCommands = responseJson.getAsJsonArray("pending_commands");
+        if (pendingCommands == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<PendingCommand> commands = parsePendingCommands(pendingCommands);
+        if (commands.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        batchStatusSupported = hasCapability(responseJson, CAPABILITY_BATCH_STATUS);
+        CommandRun run = new CommandRun(batchStatusSupported);
+        for (PendingCommand command : commands) {
+            run.add(command);
+        }
+        return afterCommands(run.finish());
+    }
+
+    /**
+     * 명령어 실행 후 처리 - 하트비트 모드에서 모아 둔 실행 결과는 다음 주기를 기다리지 않고 바로 전송
+     */
+    private CompletableFuture<Void> afterCommands(CompletableFuture<Void> chain) {
+        return chain.whenComplete((ignored, error) -> {
+            if (heartbeat.isActive() && heartbeat.hasStagedStatuses()) {
+                dispatcher.submit(OutboundDispatcher.Priority.COMMAND_RESULT, "status-flush", () -> heartbeat.send(false));
+            }
+        });
+    }
+
+    /**
+     * 폴링 응답의 pending_commands 배열을 명령어 목록으로 변환
+     */
+    static List<PendingCommand> parsePendingCommands(JsonArray pendingCommands) {
+        List<PendingCommand> commands = new ArrayList<>(pendingCommands.size());
+        for (JsonElement commandElement : pendingCommands) {
+            JsonObject command = commandElement.getAsJsonObject();
+            commands.add(new PendingCommand(
+                command.get("id").getAsInt(),
+                command.get("player_name").getAsString(),
+                command.get("command_string").getAsString()
+            ));
+        }
+        return commands;
+    }
+
+    /**
+     * 명령어 응답 스트림 처리 - 읽기 스레드에서 명령어가 도착할 때마다 실행 순서에 추가
+     * 일괄 모드에서는 processing 알림을 묶을 수 있도록 statusBatchSize개가 모이거나 명령어 목록이 끝나면 실행을 시작합니다.
+     */
+    private final class CommandStream implements PendingCommandReader.Listener {
+        // 읽기 스레드에서만 접근 (finish는 읽기 완료 후 호출)
+        private CommandRun run;
+
+        PendingCommandReader.Result read(InputStream body) {
+            try (JsonReader in = gson.newJsonReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+                return PendingCommandReader.read(in, this);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }
+
+        @Override
+        public void onCommand(JsonObject envelope, PendingCommand command) {
+            if (run == null) {
+                // capabilities가 명령어보다 뒤에 오면 이전 응답에서 확인한 기능을 사용
+                if (envelope.has("capabilities")) {
+                    batchStatusSupported = hasCapability(envelope, CAPABILITY_BATCH_STATUS);
+                }
+                run = new CommandRun(batchStatusSupported);
+            }
+            run.add(command);
+            if (!run.batched || run.getWaitingCount() >= statusBatchSize) {
+                run.start();
+            }
+        }
+
+        @Override
+        public void onEnd(JsonObject envelope) {
+            if (!PendingCommandReader.isSuccess(envelope)) {
+                return;
+            }
+            heartbeat.onCapabilities(hasCapability(envelope, HeartbeatChannel.CAPABILITY_HEARTBEAT));
+            if (run != null) {
+                batchStatusSupported = hasCapability(envelope, CAPABILITY_BATCH_STATUS);
+                run.start();
+            }
+        }
+
+        CompletableFuture<Void> finish() {
+            return run != null ? afterCommands(run.finish()) : CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * 명령어 실행 순서 - 이전 명령어 완료 후 다음 명령어 실행
+     * 명령어는 추가되는 대로 실행 체인 끝에 붙고, 체인은 start() 이후 실행됩니다.
+     * 아직 메인 스레드로 넘기지 않은 명령어 차례가 오면 그때까지 도착한 명령어를 statusBatchSize개까지 묶어
+     * processing을 알린 뒤 한 번에 메인 스레드로 넘기므로, 묶음은 틱당 시간 한도 안에서 연달아 실행됩니다.
+     * 일괄 모드에서는 processing 알림과 실행 결과를 각각 한 번의 요청으로 묶어서 전송합니다.
+     */
+    private final class CommandRun {
+        private final boolean batched;
+        private final CompletableFuture<Void> started = new CompletableFuture<>();
+        private final List<QueuedCommand> waiting = new ArrayList<>(); // waiting 잠금으로 보호
+        // 체인이 순차 실행되므로 결과 목록은 한 번에 하나의 스레드에서만 접근됨
+        private final List<CommandStatusUpdate> results = new ArrayList<>();
+        private final List<UploadTiming> resultTimings = new ArrayList<>(); // results와 같은 순서 (측정하지 않으면 null)
+        // 명령어를 추가하는 스레드에서만 접근
+        private CompletableFuture<Void> chain = started;
+
+        CommandRun(boolean batched) {
+            this.batched = batched;
+        }
+
+        void add(PendingCommand command) {
+            // 이미 실행한 명령어 - 실행하지 않고 기록된 최종 상태를 다시 보고
+            CommandStatusUpdate executed = executedCommands.get(command.getQueueId());
+            if (executed != null) {
+                plugin.getMetrics().increment("dedupe.hits");
+                plugin.getPluginLogger().warning("이미 실행한 명령어를 다시 받았습니다. 실행하지 않고 결과만 보고합니다 (queue_id "
+                        + command.getQueueId() + ")");
+                chain = chain.thenCompose(ignored -> report(executed, null));
+                return;
+            }
+            // 플레이어 접속을 기다리는 명령어 - 이미 processing을 알렸으므로 결과는 실행 후 보고
+            if (deferredCommands != null && deferredCommands.contains(command.getQueueId())) {
+                plugin.getMetrics().increment("deferred.redelivered");
+                plugin.getPluginLogger().debug("보류 중인 명령어를 다시 받았습니다 (queue_id " + command.getQueueId() + ")");
+                return;
+            }
+
+            QueuedCommand queued = new QueuedCommand(command);
+            synchronized (waiting) {
+                waiting.add(queued);
+            }
+            chain = chain
+                    .thenCompose(ignored -> handOff(queued))
+                    .thenCompose(ignored -> processCommand(queued))
+                    .thenCompose(update -> update == null ? CompletableFuture.<Void>completedFuture(null)
+                            : report(update, isLocalCommand(command) ? null : CommandLatencyTracker.root(command.getCommandString())));
+        }
+
+        /**
+         * 메인 스레드로 아직 넘기지 않은 명령어 수
+         */
+        int getWaitingCount() {
+            synchronized (waiting) {
+                return waiting.size();
+            }
+        }
+
+        void start() {
+            started.complete(null);
+        }
+
+        /**
+         * 실행 시작 후 남은 결과까지 전송 - 모든 명령어를 추가한 뒤 호출
+         */
+        CompletableFuture<Void> finish() {
+            start();
+            return batched ? chain.thenCompose(ignored -> flushResults()) : chain;
+        }
+
+        /**
+         * 실행 결과 보고 - 일괄 모드는 모아서 전송, 아니면 바로 전송 (root가 있으면 보고 지연 시간 기록)
+         */
+        private CompletableFuture<Void> report(CommandStatusUpdate update, String root) {
+            UploadTiming timing = root != null ? new UploadTiming(root, System.nanoTime()) : null;
+            if (batched) {
+                return collectResult(update, timing);
+            }
+            return updateCommandStatus(update).thenRun(() -> recordUpload(timing));
+        }
+
+        /**
+         * 명령어 차례에 아직 넘기지 않았으면 대기 중인 명령어를 묶어서 processing 알림 후 메인 스레드로 전달
+         * 체인이 순서대로 진행되므로 넘기지 않은 명령어는 항상 대기 목록의 맨 앞에 있습니다.
+         */
+        private CompletableFuture<Void> handOff(QueuedCommand queued) {
+            if (queued.handedOff) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            List<QueuedCommand> group;
+            synchronized (waiting) {
+                List<QueuedCommand> head = waiting.subList(0, Math.min(waiting.size(), Math.max(1, statusBatchSize)));
+                group = new ArrayList<>(head);
+                head.clear();
+            }
+            return acknowledge(group).thenRun(() -> submit(group));
+        }
+
+        /**
+         * 묶음의 processing 알림 - 일괄 모드는 한 번의 요청, 아니면 명령어마다 순서대로 전송
+         */
+        private CompletableFuture<Void> acknowledge(List<QueuedCommand> group) {
+            List<CommandStatusUpdate> acknowledgements = new ArrayList<>(group.size());
+            for (QueuedCommand queued : group) {
+                acknowledgements.add(new CommandStatusUpdate(queued.command.getQueueId(), "processing"));
+            }
+            if (batched) {
+                return sendStatusBatch(acknowledgements);
+            }
+
+            CompletableFuture<Void> sent = CompletableFuture.completedFuture(null);
+            for (CommandStatusUpdate acknowledgement : acknowledgements) {
+                sent = sent.thenCompose(ignored -> updateCommandStatus(acknowledgement));
+            }
+            return sent;
+        }
+
+        /**
+         * 묶음을 한 번에 메인 스레드로 전달 (특수 명령어는 메인 스레드 없이 차례에 처리)
+         * 속도 제한을 넘은 명령어는 예약된 실행 시각에 따로 전달합니다.
+         */
+        private void submit(List<QueuedCommand> group) {
+            List<QueuedCommand> regular = new ArrayList<>(group.size());
+            for (QueuedCommand queued : group) {
+                queued.handedOff = true;
+                if (isLocalCommand(queued.command)) {
+                    continue;
+                }
+                queued.throttleDelay = rateLimiter.reserve(queued.command.getPlayerName());
+                if (queued.throttleDelay > 0) {
+                    submitLater(queued);
+                } else {
+                    regular.add(queued);
+                }
+            }
+            if (regular.isEmpty()) {
+                return;
+            }
+
+            List<PendingCommand> commands = new ArrayList<>(regular.size());
+            for (QueuedCommand queued : regular) {
+                commands.add(queued.command);
+            }
+            try {
+                List<CompletableFuture<GameboyConnector.CommandExecutionResult>> executions =
+                        plugin.runWebCommands(commands, deferOffline());
+                for (int i = 0; i < regular.size(); i++) {
+                    regular.get(i).execution = executions.get(i);
+                    recordWhenExecuted(regular.get(i));
+                }
+            } catch (Exception e) {
+                for (QueuedCommand queued : regular) {
+                    queued.execution = CompletableFuture.failedFuture(e);
+                }
+            }
+        }
+
+        /**
+         * 속도 제한으로 미뤄진 명령어를 예약 시각에 메인 스레드로 전달
+         * 예약 시각 전에 결과 대기가 시간 초과되면 전달하지 않고, 전달한 뒤에는 취소하지 않음 (실행되면 실행 기록에 남음)
+         */
+        private void submitLater(QueuedCommand queued) {
+            WebCommandExecutor.Execution execution = new WebCommandExecutor.Execution();
+            queued.execution = execution;
+            recordWhenExecuted(queued);
+            CompletableFuture.delayedExecutor(queued.throttleDelay, TimeUnit.NANOSECONDS).execute(() -> {
+                rateLimiter.released();
+                if (!execution.start()) {
+                    return; // 결과 대기 시간 초과로 취소됨
+                }
+                try {
+                    plugin.runWebCommands(List.of(queued.command), deferOffline()).get(0)
+                            .whenComplete((result, error) -> {
+                                if (error != null) {
+                                    execution.completeExceptionally(error);
+                                } else {
+                                    execution.complete(result);
                                 }
                             });
+                } catch (Exception e) {
+                    execution.completeExceptionally(e);
+                }
+            });
+        }
+
+        /**
+         * 실행이 끝나는 즉시 실행 기록에 남김 (메인 스레드, 메모리만 갱신)
+         * 결과 대기가 시간 초과로 먼저 끝나도 나중에 실행되면 기록되므로, 다시 받은 명령어가 두 번 실행되지 않습니다.
+         * 보류된 명령어와 실행되지 않은 명령어(대기열 거부, 실행기 종료)는 다시 받으면 실행합니다.
+         */
+        private void recordWhenExecuted(QueuedCommand queued) {
+            queued.execution.thenAccept(cmdResult -> {
+                if (!cmdResult.isDeferred()) {
+                    executedCommands.record(executionUpdate(queued.command, cmdResult));
+                }
+            });
+        }
+
+        /**
+         * 실행 결과를 모아서 statusBatchSize개마다 전송 (일괄 모드)
+         */
+        private CompletableFuture<Void> collectResult(CommandStatusUpdate update, UploadTiming timing) {
+            results.add(update);
+            resultTimings.add(timing);
+            if (results.size() < statusBatchSize) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return flushResults();
+        }
+
+        private CompletableFuture<Void> flushResults() {
+            List<CommandStatusUpdate> flushed = new ArrayList<>(results);
+            List<UploadTiming> timings = new ArrayList<>(resultTimings);
+            results.clear();
+            resultTimings.clear();
+            return sendStatusBatch(flushed).thenRun(() -> {
+                for (UploadTiming timing : timings) {
+                    recordUpload(timing);
+                }
+            });
+        }
+    }
+
+    /**
+     * 보고 지연 시간 측정 대상 (결과가 나온 시각)
+     */
+    private static final class UploadTiming {
+        private final String root;
+        private final long readyAt;
+
+        UploadTiming(String root, long readyAt) {
+            this.root = root;
+            this.readyAt = readyAt;
+        }
+    }
+
+    private void recordUpload(UploadTiming timing) {
+        if (timing != null) {
+            latencyTracker.record(timing.root, CommandLatencyTracker.Stage.UPLOAD,
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - timing.readyAt));
+        }
+    }
+
+    /**
+     * 실행 순서에 추가된 명령어 - 필드는 실행 체인에서 순서대로 접근
+     */
+    private static final class QueuedCommand {
+        private final PendingCommand command;
+        private final long receivedAt = System.nanoTime(); // 웹서버에서 받은 시각
+        private boolean handedOff;
+        private CompletableFuture<GameboyConnector.CommandExecutionResult> execution; // 특수 명령어는 null
+        private long throttleDelay; // 속도 제한으로 미룬 시간 (나노초)
+
+        QueuedCommand(PendingCommand command) {
+            this.command = command;
+        }
+    }
+
+    /**
+     * 웹서버 응답의 capabilities 목록에 기능이 포함되어 있는지 확인
+     */
+    boolean hasCapability(JsonObject responseJson, String capability) {
+        JsonArray capabilities = responseJson.getAsJsonArray("capabilities");
+        if (capabilities == null) {
+            return false;
+        }
+        for (JsonElement element : capabilities) {
+            if (capability.equals(element.getAsString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 웹서버 쪽 처리만 필요한 특수 명령어인지 확인 (메인 스레드로 넘기지 않음)
+     */
+    private static boolean isLocalCommand(PendingCommand command) {
+        return REFRESH_PLAYERS_COMMAND.equals(command.getCommandString());
+    }
+
+    /**
+     * 명령어 하나 처리 - 결과 상태 업데이트 데이터를 반환 (플레이어 접속 시까지 보류된 명령어는 null)
+     */
+    private CompletableFuture<CommandStatusUpdate> processCommand(QueuedCommand queued) {
+        int queueId = queued.command.getQueueId();
+        String playerName = queued.command.getPlayerName();
+        String commandString = queued.command.getCommandString();
+
+        // 특수 명령어 처리
+        if (isLocalCommand(queued.command)) {
+            // 플레이어 목록 즉시 갱신 (전체 목록 재전송)
+            try {
+                presenceTracker.requestFullResync();
+                dispatcher.submit(OutboundDispatcher.Priority.PLAYER_PRESENCE, "player-list", this::updatePlayerList);
+                plugin.getPluginLogger().info("플레이어 목록 즉시 갱신 요청");
+                return CompletableFuture.completedFuture(new CommandStatusUpdate(queueId, "completed"));
+            } catch (Exception e) {
+                plugin.getPluginLogger().severe("플레이어 목록 갱신 실패: " + e.getMessage());
+                return CompletableFuture.completedFuture(new CommandStatusUpdate(queueId, "failed"));
+            }
+        }
+
+        // 일반 명령어 - 메인 스레드 실행 결과 대기
+        return awaitExecution(queued.execution, queued.throttleDelay)
+                .thenApply(cmdResult -> {
+                    if (cmdResult.isDeferred()) {
+                        return null; // 실행 직전에 보관소에 넣음 (deferOffline)
+                    }
+                    recordExecution(queued.command, cmdResult, queued.receivedAt);
+                    // 실행 기록은 실행 완료 시점에 이미 남김 (recordWhenExecuted)
+                    return executionUpdate(queued.command, cmdResult);
+                });
+    }
+
+    /**
+     * 실행 결과에 따라 최종 상태(completed/failed) 생성
+     */
+    private static CommandStatusUpdate executionUpdate(PendingCommand command, GameboyConnector.CommandExecutionResult cmdResult) {
+        CommandStatusUpdate update = new CommandStatusUpdate(command.getQueueId(), cmdResult.isSuccess() ? "completed" : "failed");
+        update.setResult(
+            cmdResult.isSuccess(),
+            command.getPlayerName(),
+            command.getCommandString(),
+            cmdResult.getExecutedCommand(),
+            cmdResult.getOutput(),
+            Instant.now().toString()
+        );
+        return update;
+    }
+
+    /**
+     * 대기/실행 시간 기록 및 느린 명령어 로그 (실행되지 않은 명령어는 제외)
+     *
+     * @param receivedAt 명령어를 받은 시각 (System.nanoTime, 대기 시간을 기록하지 않으면 0)
+     */
+    private void recordExecution(PendingCommand command, GameboyConnector.CommandExecutionResult cmdResult, long receivedAt) {
+        if (cmdResult.getStartedAt() == 0) {
+            return;
+        }
+        String root = CommandLatencyTracker.root(command.getCommandString());
+        long waitNanos = receivedAt != 0 ? cmdResult.getStartedAt() - receivedAt : 0;
+        if (receivedAt != 0) {
+            latencyTracker.record(root, CommandLatencyTracker.Stage.QUEUE_WAIT, TimeUnit.NANOSECONDS.toMicros(waitNanos));
+        }
+        latencyTracker.record(root, CommandLatencyTracker.Stage.EXECUTION, TimeUnit.NANOSECONDS.toMicros(cmdResult.getExecutionNanos()));
+
+        if (cmdResult.getExecutionNanos() >= slowCommandNanos) {
+            plugin.getMetrics().increment("command_latency.slow");
+            plugin.getPluginLogger().warning(String.format(Locale.ROOT,
+                    "느린 명령어 (틱 #%d, %s): 실행 %.1fms, 대기 %dms - %s (플레이어 %s, queue_id %d)",
+                    cmdResult.getTick(), root, cmdResult.getExecutionNanos() / 1_000_000.0,
+                    TimeUnit.NANOSECONDS.toMillis(waitNanos), cmdResult.getExecutedCommand(),
+                    command.getPlayerName(), command.getQueueId()));
+        }
+    }
+
+    public CommandLatencyTracker getLatencyTracker() {
+        return latencyTracker;
+    }
+
+    /**
+     * 대상 플레이어가 접속하지 않았을 때 명령어를 보관하는 함수 (보류 명령어 비활성화 시 null)
+     */
+    private Predicate<PendingCommand> deferOffline() {
+        return deferredCommands != null ? this::deferCommand : null;
+    }
+
+    /**
+     * 대상 플레이어가 접속하지 않은 명령어 보관 (메인 스레드, 접속 여부를 확인한 직후) - 보관소가 가득 차면 false
+     * 확인과 보관이 같은 틱에 이뤄지므로, 그 사이 플레이어가 접속해서 명령어가 다음 접속까지 남겨지는 일이 없습니다.
+     */
+    private boolean deferCommand(PendingCommand command) {
+        if (deferredCommands.defer(command, System.currentTimeMillis())) {
+            plugin.getMetrics().increment("deferred.added");
+            plugin.getPluginLogger().info("플레이어 " + command.getPlayerName() + "이(가) 접속하지 않아 명령어를 보류합니다 (queue_id "
+                    + command.getQueueId() + ")");
+            return true;
+        }
+
+        plugin.getPluginLogger().warning("보류 명령어 보관소가 가득 차서 명령어를 실패 처리합니다 (queue_id " + command.getQueueId() + ")");
+        return false;
+    }
+
+    /**
+     * 접속한 플레이어의 보류 명령어 실행 (메인 스레드, 플레이어 접속 시)
+     * 명령어는 메인 스레드 실행기로 한 번에 넘겨 틱당 시간 한도 안에서 실행되고, 결과는 모아서 한 번에 보고합니다.
+     * 실행 전에 플레이어가 다시 나가면 다음 접속까지 계속 보류됩니다.
+     */
+    public void runDeferredCommands(String playerName) {
+        if (deferredCommands == null) {
+            return;
+        }
+        List<DeferredCommandStore.Entry> entries = deferredCommands.take(playerName);
+        if (entries.isEmpty()) {
+            return;
+        }
+        plugin.getPluginLogger().info("플레이어 " + playerName + "의 보류 명령어 " + entries.size() + "건을 실행합니다.");
+
+        List<PendingCommand> commands = new ArrayList<>(entries.size());
+        Map<Integer, DeferredCommandStore.Entry> taken = new HashMap<>();
+        for (DeferredCommandStore.Entry entry : entries) {
+            commands.add(entry.getCommand());
+            taken.put(entry.getCommand().getQueueId(), entry);
+        }
+        // 실행 직전에 플레이어가 다시 나갔으면 같은 틱에서 바로 실행 대기로 돌려 다음 접속 때 실행
+        List<CompletableFuture<GameboyConnector.CommandExecutionResult>> executions = plugin.runWebCommands(commands, command -> {
+            deferredCommands.restore(taken.get(command.getQueueId()));
+            return true;
+        });
+
+        CompletableFuture<?>[] handled = new CompletableFuture<?>[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            DeferredCommandStore.Entry entry = entries.get(i);
+            handled[i] = executions.get(i).handle((cmdResult, error) -> {
+                onDeferredExecuted(entry, error == null ? cmdResult : null);
+                return null;
+            });
+        }
+        CompletableFuture.allOf(handled).thenRun(this::scheduleDeferredReport);
+    }
+
+    /**
+     * 보류 명령어 실행 결과 반영 - 실행기 종료로 실행되지 않았으면 다음 접속까지 보관 (다시 보류된 명령어는 이미 돌려놓음)
+     * 보관소/실행 기록은 메모리만 바로 바꾸고 파일 기록은 JournalWriter 스레드에서 하므로 메인 스레드에서 호출해도 됩니다.
+     */
+    private void onDeferredExecuted(DeferredCommandStore.Entry entry, GameboyConnector.CommandExecutionResult cmdResult) {
+        if (cmdResult == null) {
+            deferredCommands.restore(entry);
+            return;
+        }
+        if (cmdResult.isDeferred()) {
+            return;
+        }
+
+        PendingCommand command = entry.getCommand();
+        recordExecution(command, cmdResult, 0);
+        CommandStatusUpdate update = executionUpdate(command, cmdResult);
+        // 실행 기록을 먼저 남겨야 보관소에서 지우기 전에 종료되어도 다시 실행되지 않음
+        executedCommands.record(update);
+        deferredCommands.complete(command.getQueueId());
+        plugin.getMetrics().increment("deferred.executed");
+        deferredResults.add(update);
+    }
+
+    /**
+     * 보관 기간이 지난 보류 명령어를 실패로 보고 (디스패처에서 주기적으로 호출)
+     */
+    public void expireDeferredCommands() {
+        if (deferredCommands == null) {
+            return;
+        }
+        List<DeferredCommandStore.Entry> expired = deferredCommands.expire(System.currentTimeMillis() - deferredExpireTime);
+        if (expired.isEmpty()) {
+            return;
+        }
+        plugin.getPluginLogger().info("보관 기간이 지난 보류 명령어 " + expired.size() + "건을 실패로 보고합니다.");
+        plugin.getMetrics().add("deferred.expired", expired.size());
+
+        String timestamp = Instant.now().toString();
+        for (DeferredCommandStore.Entry entry : expired) {
+            PendingCommand command = entry.getCommand();
+            CommandStatusUpdate update = new CommandStatusUpdate(command.getQueueId(), "failed");
+            update.setResult(false, command.getPlayerName(), command.getCommandString(), null,
+                    "플레이어가 보관 기간 안에 접속하지 않아 실행하지 않았습니다", timestamp);
+            executedCommands.record(update);
+            deferredResults.add(update);
+        }
+        reportDeferredResults();
+    }
+
+    private void scheduleDeferredReport() {
+        dispatcher.submit(OutboundDispatcher.Priority.COMMAND_RESULT, "deferred-results", this::reportDeferredResults);
+    }
+
+    /**
+     * 모아 둔 보류 명령어 결과 보고 - 일괄 모드는 statusBatchSize개씩 한 번의 요청, 아니면 명령어마다 전송
+     */
+    private void reportDeferredResults() {
+        List<CommandStatusUpdate> updates = new ArrayList<>();
+        CommandStatusUpdate update;
+        while ((update = deferredResults.poll()) != null) {
+            updates.add(update);
+        }
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        CompletableFuture<Void> sent = CompletableFuture.completedFuture(null);
+        if (batchStatusSupported) {
+            for (int from = 0; from < updates.size(); from += statusBatchSize) {
+                List<CommandStatusUpdate> batch = updates.subList(from, Math.min(updates.size(), from + statusBatchSize));
+                sent = sent.thenCompose(ignored -> sendStatusBatch(batch));
+            }
+        } else {
+            for (CommandStatusUpdate result : updates) {
+                sent = sent.thenCompose(ignored -> updateCommandStatus(result));
+            }
+        }
+        afterCommands(sent);
+    }
+
+    /**
+     * 메인 스레드 실행 결과 대기 - 명령어 차례가 된 시점부터 최대 5초(속도 제한으로 미룬 시간 추가), 스레드는 점유하지 않음
+     */
+    private CompletableFuture<GameboyConnector.CommandExecutionResult> awaitExecution(
+            CompletableFuture<GameboyConnector.CommandExecutionResult> execution, long throttleDelay) {
+        // 시간 제한은 복사본에만 걸어 원래 future는 실행기/실행 기록이 그대로 사용
+        // (시간 초과 시 아직 시작하지 않은 명령어만 취소, 실행 중인 명령어는 끝난 뒤 실행 기록에 남음)
+        return execution.copy()
+                .orTimeout(TimeUnit.SECONDS.toNanos(COMMAND_EXECUTION_TIMEOUT) + throttleDelay, TimeUnit.NANOSECONDS)
+                .exceptionally(e -> {
+                    execution.cancel(false);
+                    plugin.getPluginLogger().severe("명령어 실행 실패: " + unwrap(e).getMessage());
+                    GameboyConnector.CommandExecutionResult cmdResult = new GameboyConnector.CommandExecutionResult();
+                    cmdResult.setSuccess(false);
+                    cmdResult.setOutput("타임아웃 또는 오류: " + unwrap(e).getMessage());
+                    return cmdResult;
+                });
+    }
+    
+    /**
+     * 명령어 상태 업데이트 (실패해도 다음 처리가 계속되도록 항상 정상 완료)
+     */
+    private CompletableFuture<Void> updateCommandStatus(CommandStatusUpdate update) {
+        // 같은 명령어의 이전 상태가 대기함에 있으면 순서를 지키기 위해 함께 대기
+        if (outbox != null && outbox.contains(OutboxJournal.Type.COMMAND_STATUS, update.getQueueId())) {
+            deferStatus(update);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // 하트비트 모드에서는 다음 하트비트에 포함
+        if (heartbeat.isActive()) {
+            heartbeat.stageStatus(update);
+            return CompletableFuture.completedFuture(null);
+        }
 
-                            // 최대 5초 대기
-                            cmdResult = future.get(5, TimeUnit.SECONDS);
-
-                        } catch (Exception e) {
-                            plugin.getPluginLogger().severe("명령어 실행 실패: " + e.getMessage());
-                            cmdResult = new GameboyConnector.CommandExecutionResult();
-                            cmdResult.setSuccess(false);
-                            cmdResult.setOutput("타임아웃 또는 오류: " + e.getMessage());
-                        }
-
-                        // 실행 결과에 따라 상태 업데이트
-                        JsonObject executionResult = new JsonObject();
-                        executionResult.addProperty("success", cmdResult.isSuccess());
-                        executionResult.addProperty("player_name", playerName);
-                        executionResult.addProperty("command", commandString);
-                        executionResult.addProperty("executed_command", cmdResult.getExecutedCommand());
-                        executionResult.addProperty("output", cmdResult.getOutput());
-                        executionResult.addProperty("execution_time", Instant.now().toString());
-
-                        String status = cmdResult.isSuccess() ? "completed" : "failed";
-                        updateCommandStatus(queueId, status, executionResult);
+        // Circuit Breaker 확인 - 열려 있으면 요청 타임아웃을 기다리지 않고 바로 대기함으로
+        CircuitBreaker breaker = breaker(COMMANDS_ENDPOINT);
+        if (!breaker.tryAcquire()) {
+            deferStatus(update);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return trackResult(breaker, sendRequest(COMMANDS_ENDPOINT, payloads.statusUpdate(update)), "명령어 상태 업데이트 실패")
+                .handle((response, error) -> {
+                    if (error != null && isRetryable(error)) {
+                        deferStatus(update);
                     }
+                    return null;
+                });
+    }
+
+    /**
+     * 명령어 상태 일괄 업데이트
+     * 웹서버가 일괄 요청을 거부(4xx)하면 명령어별 개별 요청으로 다시 전송합니다.
+     */
+    private CompletableFuture<Void> sendStatusBatch(List<CommandStatusUpdate> updates) {
+        if (outbox != null && !outbox.isEmpty()) {
+            List<CommandStatusUpdate> direct = new ArrayList<>(updates.size());
+            for (CommandStatusUpdate update : updates) {
+                if (outbox.contains(OutboxJournal.Type.COMMAND_STATUS, update.getQueueId())) {
+                    deferStatus(update);
+                } else {
+                    direct.add(update);
                 }
-            } else {
-                recordFailure(); // HTTP 오류
-                plugin.getPluginLogger().warning("명령어 폴링 실패: " + response.statusCode() + " - " + response.body());
             }
+            updates = direct;
+        }
 
-        } catch (Exception e) {
-            recordFailure(); // 네트워크 오류
-            plugin.getPluginLogger().severe("명령어 폴링 실패: " + e.getMessage());
+        if (heartbeat.isActive()) {
+            for (CommandStatusUpdate update : updates) {
+                heartbeat.stageStatus(update);
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (updates.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // Circuit Breaker 확인 - 열려 있으면 요청 타임아웃을 기다리지 않고 바로 대기함으로
+        CircuitBreaker breaker = breaker(COMMANDS_ENDPOINT);
+        if (!breaker.tryAcquire()) {
+            for (CommandStatusUpdate update : updates) {
+                deferStatus(update);
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<CommandStatusUpdate> sent = updates;
+        return trackResult(breaker, sendRequest(COMMANDS_ENDPOINT, payloads.statusBatch(sent)), "명령어 상태 일괄 업데이트 실패")
+                .handle((response, error) -> {
+                    if (error == null) {
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
+
+                    Throwable cause = unwrap(error);
+                    if (cause instanceof HttpStatusException && ((HttpStatusException) cause).isClientError()) {
+                        plugin.getPluginLogger().warning("명령어 상태 일괄 업데이트 거부됨, 개별 전송으로 대체: " + cause.getMessage());
+                        return sendStatusIndividually(sent);
+                    }
+
+                    for (CommandStatusUpdate update : sent) {
+                        deferStatus(update);
+                    }
+                    return CompletableFuture.<Void>completedFuture(null);
+                })
+                .thenCompose(next -> next);
+    }
+
+    /**
+     * 명령어 상태를 기존 엔드포인트로 전송 (하트비트가 거부된 경우)
+     */
+    void sendStatuses(List<CommandStatusUpdate> updates) {
+        if (batchStatusSupported) {
+            sendStatusBatch(updates);
+        } else {
+            sendStatusIndividually(updates);
+        }
+    }
+
+    /**
+     * 명령어 상태를 하나씩 순서대로 전송
+     */
+    private CompletableFuture<Void> sendStatusIndividually(List<CommandStatusUpdate> updates) {
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (CommandStatusUpdate update : updates) {
+            chain = chain.thenCompose(ignored -> updateCommandStatus(update));
         }
+        return chain;
     }
     
     /**
-     * 명령어 상태 업데이트
+     * 다시 보내면 성공할 수 있는 실패인지 확인 (4xx는 내용 문제이므로 재전송하지 않음)
      */
-    private void updateCommandStatus(int queueId, String status, JsonObject executionResult) {
+    static boolean isRetryable(Throwable error) {
+        Throwable cause = unwrap(error);
+        return !(cause instanceof HttpStatusException && ((HttpStatusException) cause).isClientError());
+    }
+
+    /**
+     * 전송하지 못한 본문을 대기함에 보관
+     */
+    private void defer(OutboxJournal.Type type, long key, HttpTransport.BodyWriter body) {
+        if (outbox == null) {
+            return;
+        }
         try {
-            JsonObject requestData = new JsonObject();
-            requestData.addProperty("queue_id", queueId);
-            requestData.addProperty("status", status);
-            if (executionResult != null) {
-                requestData.add("execution_result", executionResult);
+            outbox.put(type, key, JsonPayloads.render(body));
+        } catch (IOException e) {
+            plugin.getPluginLogger().severe("전송 대기함 보관 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 서버 정보를 대기함에 보관 - 최신 정보만 남음
+     */
+    void deferServerInfo(ServerInfo serverInfo) {
+        defer(OutboxJournal.Type.SERVER_INFO, 0, payloads.serverInfo(serverInfo, Instant.now().toString()));
+    }
+
+    /**
+     * 명령어 상태를 대기함에 보관 - 같은 명령어는 마지막 상태만 남음
+     */
+    void deferStatus(CommandStatusUpdate update) {
+        defer(OutboxJournal.Type.COMMAND_STATUS, update.getQueueId(), payloads.statusUpdate(update));
+    }
+
+    /**
+     * 대기함 전송 시작 (연결 성공 시 호출, 이미 전송 중이면 무시)
+     */
+    void flushOutbox() {
+        if (outbox == null || outbox.isEmpty() || !outboxDraining.compareAndSet(false, true)) {
+            return;
+        }
+        drainOutbox().whenComplete((ignored, error) -> outboxDraining.set(false));
+    }
+
+    /**
+     * 대기함의 메시지를 오래된 순서로 outboxDrainBatchSize개씩 전송
+     * 전송이 실패하면 중단하고 다음 연결 성공 시 이어서 전송합니다.
+     */
+    private CompletableFuture<Void> drainOutbox() {
+        List<OutboxJournal.Entry> entries = outbox.peek(outboxDrainBatchSize);
+        if (entries.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<OutboxJournal.Entry> statuses = new ArrayList<>();
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (OutboxJournal.Entry entry : entries) {
+            if (entry.getType() == OutboxJournal.Type.COMMAND_STATUS && batchStatusSupported) {
+                statuses.add(entry);
+            } else {
+                chain = chain.thenCompose(ignored -> sendDeferred(List.of(entry),
+                        JsonPayloads.raw(entry.getPayload())));
             }
-            
-            sendRequest("/pending-commands.php", requestData);
-            
-        } catch (Exception e) {
-            plugin.getPluginLogger().severe("명령어 상태 업데이트 실패: " + e.getMessage());
         }
+
+        if (!statuses.isEmpty()) {
+            List<String> bodies = new ArrayList<>(statuses.size());
+            for (OutboxJournal.Entry entry : statuses) {
+                bodies.add(entry.getPayload());
+            }
+            chain = chain.thenCompose(ignored -> sendDeferred(statuses, payloads.statusBatchRaw(bodies)));
+        }
+
+        return chain.thenCompose(ignored -> drainOutbox());
     }
-    
+
+    /**
+     * 대기함 메시지 전송 결과 처리 - 성공 또는 4xx(재전송 무의미)면 대기함에서 삭제
+     * 해당 엔드포인트의 Circuit이 열려 있으면 전송을 중단합니다.
+     */
+    private CompletableFuture<Void> sendDeferred(List<OutboxJournal.Entry> entries, HttpTransport.BodyWriter body) {
+        String endpoint = entries.get(0).getType().getEndpoint();
+        CircuitBreaker breaker = breaker(endpoint);
+        if (!breaker.tryAcquire()) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Circuit Open"));
+        }
+
+        return trackResult(breaker, sendRequest(endpoint, body), "보관된 메시지 전송 실패").handle((response, error) -> {
+            if (error != null && isRetryable(error)) {
+                throw new CompletionException(unwrap(error));
+            }
+            if (error != null) {
+                plugin.getPluginLogger().warning("웹서버가 보관된 메시지를 거부했습니다: " + unwrap(error).getMessage());
+            } else {
+                plugin.getMetrics().add("outbox.drained", entries.size());
+            }
+            for (OutboxJournal.Entry entry : entries) {
+                outbox.remove(entry);
+            }
+            return null;
+        });
+    }
+
     // Getter 메서드들
     public String getBaseUrl() {
         return baseUrl;
@@ -428,4 +1555,43 @@ public class WebServerCommunicator {
     public String getServerCode() {
         return serverCode;
     }
+
+    public HttpTransport getTransport() {
+        return transport;
+    }
+
+    public PlayerPresenceTracker getPresenceTracker() {
+        return presenceTracker;
+    }
+
+    public ServerInfoTracker getServerInfoTracker() {
+        return serverInfoTracker;
+    }
+
+    public CommandRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    public OutboundDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    public AdaptivePollScheduler getPollScheduler() {
+        return pollScheduler;
+    }
+
+    public boolean isHeartbeatActive() {
+        return heartbeat.isActive();
+    }
+
+    /**
+     * 주기 폴링(또는 하트비트)으로 받은 명령어를 처리 중인지 여부 - 이 동안에는 롱폴링을 시작하지 않음
+     */
+    boolean isCommandPollInProgress() {
+        return pollInProgress.get();
+    }
+
+    public boolean isLongPollActive() {
+        return commandChannel != null && commandChannel.isActive();
+    }
 }
\ No newline at end of file
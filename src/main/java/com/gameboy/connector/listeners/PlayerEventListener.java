@@ -23,8 +23,14 @@ public class PlayerEventListener implements Listener {
         // 플레이어 접속 시 로그 기록
         plugin.getPluginLogger().info("플레이어 접속: " + event.getPlayer().getName());
         
-        // 웹서버에 플레이어 접속 알림 (선택사항)
-        // plugin.getCommunicator().sendPlayerJoinNotification(event.getPlayer());
+        // 접속 상태 추적기에 기록 (다음 플레이어 목록 전송 시 변경분으로 전송)
+        plugin.getCommunicator().getPresenceTracker().playerJoined(
+            event.getPlayer().getName(),
+            event.getPlayer().getUniqueId().toString()
+        );
+        
+        // 접속하지 않은 동안 보류된 명령어 실행 (틱당 시간 한도 안에서 나눠 실행)
+        plugin.getCommunicator().runDeferredCommands(event.getPlayer().getName());
     }
     
     @EventHandler
@@ -32,7 +38,7 @@ public class PlayerEventListener implements Listener {
         // 플레이어 퇴장 시 로그 기록
         plugin.getPluginLogger().info("플레이어 퇴장: " + event.getPlayer().getName());
         
-        // 웹서버에 플레이어 퇴장 알림 (선택사항)
-        // plugin.getCommunicator().sendPlayerQuitNotification(event.getPlayer());
+        // 접속 상태 추적기에 기록 (다음 플레이어 목록 전송 시 변경분으로 전송)
+        plugin.getCommunicator().getPresenceTracker().playerQuit(event.getPlayer().getUniqueId().toString());
     }
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.gameboy.connector.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 웹 명령어 단계별 지연 시간 (명령어 종류별)
+ * 명령어 종류는 명령어의 첫 단어(give, lp, eco 등)이며, 단계마다 전체 히스토그램과 종류별 히스토그램에 함께 기록합니다.
+ * - 대기: 웹서버에서 받은 시점부터 메인 스레드에서 실행이 시작될 때까지
+ * - 실행: 메인 스레드의 dispatchCommand 소요 시간
+ * - 보고: 실행 결과가 나온 시점부터 결과 전송(또는 대기함/하트비트에 맡김)이 끝날 때까지
+ * 전체 히스토그램의 백분위는 /gameboy metrics의 command_latency.* 항목으로, 종류별 값은 /gameboy latency로 확인합니다.
+ */
+public class CommandLatencyTracker {
+
+    private static final int MAX_ROOTS = 64; // 종류별로 구분하는 최대 명령어 수 (넘으면 other)
+    private static final String OTHER_ROOT = "other";
+
+    /**
+     * 측정 단계
+     */
+    public enum Stage {
+        QUEUE_WAIT("queue_wait"),
+        EXECUTION("execution"),
+        UPLOAD("upload");
+
+        private final String metricName;
+
+        Stage(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String getMetricName() {
+            return metricName;
+        }
+    }
+
+    private final Stats total = new Stats(OTHER_ROOT);
+    private final Map<String, Stats> byRoot = new ConcurrentHashMap<>();
+
+    public CommandLatencyTracker(ConnectorMetrics metrics) {
+        for (Stage stage : Stage.values()) {
+            LatencyHistogram histogram = total.get(stage);
+            String prefix = "command_latency." + stage.getMetricName();
+            metrics.registerGauge(prefix + ".p50_ms", () -> histogram.getPercentile(50) / 1000.0);
+            metrics.registerGauge(prefix + ".p99_ms", () -> histogram.getPercentile(99) / 1000.0);
+            metrics.registerGauge(prefix + ".max_ms", () -> histogram.getMax() / 1000.0);
+        }
+    }
+
+    /**
+     * 단계 소요 시간 기록
+     *
+     * @param root 명령어 종류 (root()로 구한 값)
+     */
+    public void record(String root, Stage stage, long micros) {
+        total.get(stage).record(micros);
+        stats(root).get(stage).record(micros);
+    }
+
+    /**
+     * 종류별 통계 (실행 횟수가 많은 순)
+     */
+    public List<Stats> getRoots() {
+        List<Stats> roots = new ArrayList<>(byRoot.values());
+        roots.sort((a, b) -> Long.compare(b.get(Stage.EXECUTION).getCount(), a.get(Stage.EXECUTION).getCount()));
+        return roots;
+    }
+
+    /**
+     * 명령어 종류 - 첫 단어를 소문자로 (앞의 /와 네임스페이스는 제외, minecraft:give → give)
+     */
+    public static String root(String command) {
+        if (command == null) {
+            return OTHER_ROOT;
+        }
+        int start = 0;
+        while (start < command.length() && (command.charAt(start) == ' ' || command.charAt(start) == '/')) {
+            start++;
+        }
+        int end = command.indexOf(' ', start);
+        if (end < 0) {
+            end = command.length();
+        }
+        int namespace = command.lastIndexOf(':', end - 1);
+        if (namespace >= start) {
+            start = namespace + 1;
+        }
+        return start < end ? command.substring(start, end).toLowerCase(Locale.ROOT) : OTHER_ROOT;
+    }
+
+    private Stats stats(String root) {
+        Stats stats = byRoot.get(root);
+        if (stats != null) {
+            return stats;
+        }
+        if (byRoot.size() >= MAX_ROOTS) {
+            root = OTHER_ROOT;
+        }
+        return byRoot.computeIfAbsent(root, Stats::new);
+    }
+
+    /**
+     * 명령어 종류 하나의 단계별 히스토그램
+     */
+    public static final class Stats {
+        private final String root;
+        private final LatencyHistogram[] histograms = new LatencyHistogram[Stage.values().length];
+
+        Stats(String root) {
+            this.root = root;
+            for (int i = 0; i < histograms.length; i++) {
+                histograms[i] = new LatencyHistogram();
+            }
+        }
+
+        public String getRoot() {
+            return root;
+        }
+
+        public LatencyHistogram get(Stage stage) {
+            return histograms[stage.ordinal()];
+        }
+    }
+}
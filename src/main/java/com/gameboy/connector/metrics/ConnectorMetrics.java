@@ -0,0 +1,73 @@
+package com.gameboy.connector.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 플러그인 지표 저장소
+ * 여러 스레드에서 잠금 없이 증가시키는 카운터와, 조회 시점에 값을 계산하는 게이지를 관리합니다.
+ * 값은 /gameboy metrics 명령어로 확인할 수 있습니다.
+ */
+public class ConnectorMetrics {
+
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, DoubleSupplier> gauges = new ConcurrentHashMap<>();
+
+    /**
+     * 카운터 1 증가
+     */
+    public void increment(String name) {
+        counter(name).increment();
+    }
+
+    /**
+     * 카운터 값 더하기
+     */
+    public void add(String name, long delta) {
+        counter(name).add(delta);
+    }
+
+    /**
+     * 카운터 현재 값
+     */
+    public long getCounter(String name) {
+        LongAdder adder = counters.get(name);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * 게이지 등록 (같은 이름이면 교체)
+     */
+    public void registerGauge(String name, DoubleSupplier supplier) {
+        gauges.put(name, supplier);
+    }
+
+    /**
+     * 전체 지표 스냅샷 (이름순 정렬)
+     */
+    public Map<String, Number> snapshot() {
+        Map<String, Number> snapshot = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().sum());
+        }
+        for (Map.Entry<String, DoubleSupplier> entry : gauges.entrySet()) {
+            try {
+                snapshot.put(entry.getKey(), entry.getValue().getAsDouble());
+            } catch (Exception e) {
+                snapshot.put(entry.getKey(), Double.NaN);
+            }
+        }
+        return snapshot;
+    }
+
+    private LongAdder counter(String name) {
+        LongAdder adder = counters.get(name);
+        if (adder == null) {
+            adder = counters.computeIfAbsent(name, key -> new LongAdder());
+        }
+        return adder;
+    }
+}
@@ -0,0 +1,99 @@
+package com.gameboy.connector.models;
+
+/**
+ * 명령어 상태 업데이트 모델 클래스
+ * 웹서버 명령어 큐에 보고할 상태(processing/completed/failed)와 실행 결과를 담습니다.
+ */
+public class CommandStatusUpdate {
+    
+    private int queueId;
+    private String status;
+    
+    // 실행 결과 (processing 상태 또는 특수 명령어는 결과 없음)
+    private boolean hasResult;
+    private boolean success;
+    private String playerName;
+    private String command;
+    private String executedCommand;
+    private String output;
+    private String executionTime;
+    
+    public CommandStatusUpdate() {
+        // 기본 생성자
+    }
+    
+    public CommandStatusUpdate(int queueId, String status) {
+        this.queueId = queueId;
+        this.status = status;
+    }
+    
+    /**
+     * 실행 결과 설정
+     */
+    public void setResult(boolean success, String playerName, String command, String executedCommand,
+                          String output, String executionTime) {
+        this.hasResult = true;
+        this.success = success;
+        this.playerName = playerName;
+        this.command = command;
+        this.executedCommand = executedCommand;
+        this.output = output;
+        this.executionTime = executionTime;
+    }
+    
+    // Getter 메서드들
+    public int getQueueId() {
+        return queueId;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public boolean hasResult() {
+        return hasResult;
+    }
+    
+    public boolean isSuccess() {
+        return success;
+    }
+    
+    public String getPlayerName() {
+        return playerName;
+    }
+    
+    public String getCommand() {
+        return command;
+    }
+    
+    public String getExecutedCommand() {
+        return executedCommand;
+    }
+    
+    public String getOutput() {
+        return output;
+    }
+    
+    public String getExecutionTime() {
+        return executionTime;
+    }
+    
+    // Setter 메서드들
+    public void setQueueId(int queueId) {
+        this.queueId = queueId;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    @Override
+    public String toString() {
+        return "CommandStatusUpdate{" +
+                "queueId=" + queueId +
+                ", status='" + status + '\'' +
+                ", success=" + success +
+                ", executedCommand='" + executedCommand + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,392 @@
+package com.gameboy.connector.models;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 모델 클래스 전용 Gson TypeAdapter
+ * 리플렉션 없이 필드를 직접 읽고 씁니다. 출력은 Gson 기본(리플렉션) 직렬화와 바이트 단위로 같습니다.
+ * - 필드 순서는 클래스 선언 순서, 이름은 필드명 그대로
+ * - null 필드는 생략 (serializeNulls 설정은 JsonWriter를 따름)
+ *
+ * 모델에 필드를 추가하면 여기의 write/read에도 같은 순서로 추가해야 합니다.
+ */
+public class ModelTypeAdapters {
+
+    private ModelTypeAdapters() {
+    }
+
+    /**
+     * 모든 모델 어댑터 등록
+     */
+    public static GsonBuilder register(GsonBuilder builder) {
+        PluginInfoAdapter pluginInfoAdapter = new PluginInfoAdapter();
+        WorldInfoAdapter worldInfoAdapter = new WorldInfoAdapter();
+        return builder
+                .registerTypeAdapter(ServerInfo.class, new ServerInfoAdapter(pluginInfoAdapter, worldInfoAdapter).nullSafe())
+                .registerTypeAdapter(PluginInfo.class, pluginInfoAdapter.nullSafe())
+                .registerTypeAdapter(WorldInfo.class, worldInfoAdapter.nullSafe())
+                .registerTypeAdapter(PlayerInfo.class, new PlayerInfoAdapter().nullSafe())
+                .registerTypeAdapter(PendingCommand.class, new PendingCommandAdapter().nullSafe())
+                .registerTypeAdapter(CommandStatusUpdate.class, new CommandStatusUpdateAdapter().nullSafe());
+    }
+
+    /**
+     * 서버 정보
+     */
+    public static final class ServerInfoAdapter extends TypeAdapter<ServerInfo> {
+        private final TypeAdapter<PluginInfo> pluginInfoAdapter;
+        private final TypeAdapter<WorldInfo> worldInfoAdapter;
+
+        public ServerInfoAdapter(TypeAdapter<PluginInfo> pluginInfoAdapter, TypeAdapter<WorldInfo> worldInfoAdapter) {
+            this.pluginInfoAdapter = pluginInfoAdapter;
+            this.worldInfoAdapter = worldInfoAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, ServerInfo info) throws IOException {
+            out.beginObject();
+            out.name("serverCode").value(info.getServerCode());
+            out.name("serverName").value(info.getServerName());
+            out.name("internalIp").value(info.getInternalIp());
+            out.name("externalIp").value(info.getExternalIp());
+            out.name("serverPort").value(info.getServerPort());
+            out.name("motd").value(info.getMotd());
+            out.name("version").value(info.getVersion());
+            out.name("protocolVersion").value(info.getProtocolVersion());
+            out.name("maxPlayers").value(info.getMaxPlayers());
+            out.name("onlinePlayers").value(info.getOnlinePlayers());
+            out.name("tps").value(info.getTps());
+            out.name("serverUptime").value(info.getServerUptime());
+            out.name("usedMemory").value(info.getUsedMemory());
+            out.name("totalMemory").value(info.getTotalMemory());
+            out.name("memoryPercentage").value(info.getMemoryPercentage());
+            out.name("javaVersion").value(info.getJavaVersion());
+            out.name("osInfo").value(info.getOsInfo());
+            out.name("gamemode").value(info.getGamemode());
+            out.name("difficulty").value(info.getDifficulty());
+            out.name("pvpEnabled").value(info.isPvpEnabled());
+            out.name("whitelistEnabled").value(info.isWhitelistEnabled());
+            out.name("worldName").value(info.getWorldName());
+            out.name("worldSize").value(info.getWorldSize());
+            out.name("chunksLoaded").value(info.getChunksLoaded());
+            List<WorldInfo> worlds = info.getWorlds();
+            out.name("worlds");
+            if (worlds == null) {
+                out.nullValue();
+            } else {
+                out.beginArray();
+                for (WorldInfo world : worlds) {
+                    worldInfoAdapter.write(out, world);
+                }
+                out.endArray();
+            }
+            List<PluginInfo> plugins = info.getPlugins();
+            out.name("plugins");
+            if (plugins == null) {
+                out.nullValue();
+            } else {
+                out.beginArray();
+                for (PluginInfo plugin : plugins) {
+                    pluginInfoAdapter.write(out, plugin);
+                }
+                out.endArray();
+            }
+            out.name("opCount").value(info.getOpCount());
+            out.name("commandsThrottled").value(info.getCommandsThrottled());
+            out.name("commandsThrottledPending").value(info.getCommandsThrottledPending());
+            out.endObject();
+        }
+
+        @Override
+        public ServerInfo read(JsonReader in) throws IOException {
+            ServerInfo info = new ServerInfo();
+            long usedMemory = 0;
+            long totalMemory = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                switch (name) {
+                    case "serverCode": info.setServerCode(in.nextString()); break;
+                    case "serverName": info.setServerName(in.nextString()); break;
+                    case "internalIp": info.setInternalIp(in.nextString()); break;
+                    case "externalIp": info.setExternalIp(in.nextString()); break;
+                    case "serverPort": info.setServerPort(in.nextInt()); break;
+                    case "motd": info.setMotd(in.nextString()); break;
+                    case "version": info.setVersion(in.nextString()); break;
+                    case "protocolVersion": info.setProtocolVersion(in.nextInt()); break;
+                    case "maxPlayers": info.setMaxPlayers(in.nextInt()); break;
+                    case "onlinePlayers": info.setOnlinePlayers(in.nextInt()); break;
+                    case "tps": info.setTps(in.nextDouble()); break;
+                    case "serverUptime": info.setServerUptime(in.nextLong()); break;
+                    case "usedMemory": usedMemory = in.nextLong(); break;
+                    case "totalMemory": totalMemory = in.nextLong(); break;
+                    case "javaVersion": info.setJavaVersion(in.nextString()); break;
+                    case "osInfo": info.setOsInfo(in.nextString()); break;
+                    case "gamemode": info.setGamemode(in.nextString()); break;
+                    case "difficulty": info.setDifficulty(in.nextString()); break;
+                    case "pvpEnabled": info.setPvpEnabled(in.nextBoolean()); break;
+                    case "whitelistEnabled": info.setWhitelistEnabled(in.nextBoolean()); break;
+                    case "worldName": info.setWorldName(in.nextString()); break;
+                    case "worldSize": info.setWorldSize(in.nextLong()); break;
+                    case "chunksLoaded": info.setChunksLoaded(in.nextInt()); break;
+                    case "worlds": info.setWorlds(readWorlds(in)); break;
+                    case "plugins": info.setPlugins(readPlugins(in)); break;
+                    case "opCount": info.setOpCount(in.nextInt()); break;
+                    case "commandsThrottled": info.setCommandsThrottled(in.nextLong()); break;
+                    case "commandsThrottledPending": info.setCommandsThrottledPending(in.nextInt()); break;
+                    default: in.skipValue(); // memoryPercentage는 메모리 사용량으로 다시 계산
+                }
+            }
+            in.endObject();
+            info.setMemoryUsage(usedMemory, totalMemory);
+            return info;
+        }
+
+        private List<PluginInfo> readPlugins(JsonReader in) throws IOException {
+            List<PluginInfo> plugins = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                plugins.add(pluginInfoAdapter.read(in));
+            }
+            in.endArray();
+            return plugins;
+        }
+
+        private List<WorldInfo> readWorlds(JsonReader in) throws IOException {
+            List<WorldInfo> worlds = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                worlds.add(worldInfoAdapter.read(in));
+            }
+            in.endArray();
+            return worlds;
+        }
+    }
+
+    /**
+     * 플러그인 정보
+     */
+    public static final class PluginInfoAdapter extends TypeAdapter<PluginInfo> {
+        @Override
+        public void write(JsonWriter out, PluginInfo plugin) throws IOException {
+            if (plugin == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("name").value(plugin.getName());
+            out.name("version").value(plugin.getVersion());
+            out.name("enabled").value(plugin.isEnabled());
+            out.endObject();
+        }
+
+        @Override
+        public PluginInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PluginInfo plugin = new PluginInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                switch (name) {
+                    case "name": plugin.setName(in.nextString()); break;
+                    case "version": plugin.setVersion(in.nextString()); break;
+                    case "enabled": plugin.setEnabled(in.nextBoolean()); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return plugin;
+        }
+    }
+
+    /**
+     * 월드 정보
+     */
+    public static final class WorldInfoAdapter extends TypeAdapter<WorldInfo> {
+        @Override
+        public void write(JsonWriter out, WorldInfo world) throws IOException {
+            if (world == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("name").value(world.getName());
+            out.name("environment").value(world.getEnvironment());
+            out.name("size").value(world.getSize());
+            out.name("chunksLoaded").value(world.getChunksLoaded());
+            out.name("players").value(world.getPlayers());
+            out.endObject();
+        }
+
+        @Override
+        public WorldInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WorldInfo world = new WorldInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                switch (name) {
+                    case "name": world.setName(in.nextString()); break;
+                    case "environment": world.setEnvironment(in.nextString()); break;
+                    case "size": world.setSize(in.nextLong()); break;
+                    case "chunksLoaded": world.setChunksLoaded(in.nextInt()); break;
+                    case "players": world.setPlayers(in.nextInt()); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return world;
+        }
+    }
+
+    /**
+     * 플레이어 정보
+     */
+    public static final class PlayerInfoAdapter extends TypeAdapter<PlayerInfo> {
+        @Override
+        public void write(JsonWriter out, PlayerInfo player) throws IOException {
+            out.beginObject();
+            out.name("playerId").value(player.getPlayerId());
+            out.name("playerUuid").value(player.getPlayerUuid());
+            out.endObject();
+        }
+
+        @Override
+        public PlayerInfo read(JsonReader in) throws IOException {
+            PlayerInfo player = new PlayerInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                switch (name) {
+                    case "playerId": player.setPlayerId(in.nextString()); break;
+                    case "playerUuid": player.setPlayerUuid(in.nextString()); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return player;
+        }
+    }
+
+    /**
+     * 대기 명령어
+     */
+    public static final class PendingCommandAdapter extends TypeAdapter<PendingCommand> {
+        @Override
+        public void write(JsonWriter out, PendingCommand command) throws IOException {
+            out.beginObject();
+            out.name("queueId").value(command.getQueueId());
+            out.name("playerName").value(command.getPlayerName());
+            out.name("commandString").value(command.getCommandString());
+            out.endObject();
+        }
+
+        @Override
+        public PendingCommand read(JsonReader in) throws IOException {
+            PendingCommand command = new PendingCommand();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                switch (name) {
+                    case "queueId": command.setQueueId(in.nextInt()); break;
+                    case "playerName": command.setPlayerName(in.nextString()); break;
+                    case "commandString": command.setCommandString(in.nextString()); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return command;
+        }
+    }
+
+    /**
+     * 명령어 상태 업데이트 (웹서버 요청 본문은 JsonPayloads에서 별도 형식으로 기록)
+     */
+    public static final class CommandStatusUpdateAdapter extends TypeAdapter<CommandStatusUpdate> {
+        @Override
+        public void write(JsonWriter out, CommandStatusUpdate update) throws IOException {
+            out.beginObject();
+            out.name("queueId").value(update.getQueueId());
+            out.name("status").value(update.getStatus());
+            out.name("hasResult").value(update.hasResult());
+            out.name("success").value(update.isSuccess());
+            out.name("playerName").value(update.getPlayerName());
+            out.name("command").value(update.getCommand());
+            out.name("executedCommand").value(update.getExecutedCommand());
+            out.name("output").value(update.getOutput());
+            out.name("executionTime").value(update.getExecutionTime());
+            out.endObject();
+        }
+
+        @Override
+        public CommandStatusUpdate read(JsonReader in) throws IOException {
+            CommandStatusUpdate update = new CommandStatusUpdate();
+            boolean hasResult = false;
+            boolean success = false;
+            String playerName = null;
+            String command = null;
+            String executedCommand = null;
+            String output = null;
+            String executionTime = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                switch (name) {
+                    case "queueId": update.setQueueId(in.nextInt()); break;
+                    case "status": update.setStatus(in.nextString()); break;
+                    case "hasResult": hasResult = in.nextBoolean(); break;
+                    case "success": success = in.nextBoolean(); break;
+                    case "playerName": playerName = in.nextString(); break;
+                    case "command": command = in.nextString(); break;
+                    case "executedCommand": executedCommand = in.nextString(); break;
+                    case "output": output = in.nextString(); break;
+                    case "executionTime": executionTime = in.nextString(); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            if (hasResult) {
+                update.setResult(success, playerName, command, executedCommand, output, executionTime);
+            }
+            return update;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.gameboy.connector.models;
+
+/**
+ * 대기 명령어 모델 클래스
+ * 웹서버 명령어 큐에서 가져온 명령어 정보를 담습니다.
+ */
+public class PendingCommand {
+    
+    private int queueId;
+    private String playerName;
+    private String commandString;
+    
+    public PendingCommand() {
+        // 기본 생성자
+    }
+    
+    public PendingCommand(int queueId, String playerName, String commandString) {
+        this.queueId = queueId;
+        this.playerName = playerName;
+        this.commandString = commandString;
+    }
+    
+    // Getter 메서드들
+    public int getQueueId() {
+        return queueId;
+    }
+    
+    public String getPlayerName() {
+        return playerName;
+    }
+    
+    public String getCommandString() {
+        return commandString;
+    }
+    
+    // Setter 메서드들
+    public void setQueueId(int queueId) {
+        this.queueId = queueId;
+    }
+    
+    public void setPlayerName(String playerName) {
+        this.playerName = playerName;
+    }
+    
+    public void setCommandString(String commandString) {
+        this.commandString = commandString;
+    }
+    
+    @Override
+    public String toString() {
+        return "PendingCommand{" +
+                "queueId=" + queueId +
+                ", playerName='" + playerName + '\'' +
+                ", commandString='" + commandString + '\'' +
+                '}';
+    }
+}
@@ -41,8 +41,9 @@ public class ServerInfo {
     
     // 월드 정보
     private String worldName;
-    private long worldSize;
+    private Long worldSize; // 기본 월드 크기 (아직 계산하지 않았으면 null - 전송 시 생략)
     private int chunksLoaded;
+    private List<WorldInfo> worlds; // 로드된 모든 월드 (첫 번째가 기본 월드)
     
     // 플러그인 정보
     private List<PluginInfo> plugins;
@@ -50,6 +51,10 @@ public class ServerInfo {
     // 보안 정보
     private int opCount;
     
+    // 명령어 속도 제한 정보
+    private long commandsThrottled; // 속도 제한으로 미뤄진 명령어 누적 수
+    private int commandsThrottledPending; // 실행 시각을 기다리는 명령어 수
+    
     public ServerInfo() {
         // 기본 생성자
     }
@@ -143,7 +148,7 @@ public class ServerInfo {
         return worldName;
     }
     
-    public long getWorldSize() {
+    public Long getWorldSize() {
         return worldSize;
     }
     
@@ -151,6 +156,10 @@ public class ServerInfo {
         return chunksLoaded;
     }
     
+    public List<WorldInfo> getWorlds() {
+        return worlds;
+    }
+    
     public List<PluginInfo> getPlugins() {
         return plugins;
     }
@@ -159,6 +168,14 @@ public class ServerInfo {
         return opCount;
     }
     
+    public long getCommandsThrottled() {
+        return commandsThrottled;
+    }
+    
+    public int getCommandsThrottledPending() {
+        return commandsThrottledPending;
+    }
+    
     // Setter 메서드들
     public void setServerCode(String serverCode) {
         this.serverCode = serverCode;
@@ -242,7 +259,7 @@ public class ServerInfo {
         this.worldName = worldName;
     }
     
-    public void setWorldSize(long worldSize) {
+    public void setWorldSize(Long worldSize) {
         this.worldSize = worldSize;
     }
     
@@ -250,6 +267,10 @@ public class ServerInfo {
         this.chunksLoaded = chunksLoaded;
     }
     
+    public void setWorlds(List<WorldInfo> worlds) {
+        this.worlds = worlds;
+    }
+    
     public void setPlugins(List<PluginInfo> plugins) {
         this.plugins = plugins;
     }
@@ -258,6 +279,14 @@ public class ServerInfo {
         this.opCount = opCount;
     }
     
+    public void setCommandsThrottled(long commandsThrottled) {
+        this.commandsThrottled = commandsThrottled;
+    }
+    
+    public void setCommandsThrottledPending(int commandsThrottledPending) {
+        this.commandsThrottledPending = commandsThrottledPending;
+    }
+    
     @Override
     public String toString() {
         return "ServerInfo{" +
@@ -284,8 +313,11 @@ public class ServerInfo {
                 ", worldName='" + worldName + '\'' +
                 ", worldSize=" + worldSize +
                 ", chunksLoaded=" + chunksLoaded +
+                ", worlds=" + worlds +
                 ", plugins=" + plugins +
                 ", opCount=" + opCount +
+                ", commandsThrottled=" + commandsThrottled +
+                ", commandsThrottledPending=" + commandsThrottledPending +
                 '}';
     }
 }
\ No newline at end of file
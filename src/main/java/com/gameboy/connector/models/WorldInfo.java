@@ -0,0 +1,79 @@
+package com.gameboy.connector.models;
+
+/**
+ * 월드 정보 모델 클래스
+ * 서버에 로드된 월드 하나의 정보를 담습니다.
+ */
+public class WorldInfo {
+    
+    private String name;
+    private String environment;
+    private Long size; // 바이트 (아직 계산하지 않았으면 null - 전송 시 생략)
+    private int chunksLoaded;
+    private int players;
+    
+    public WorldInfo() {
+        // 기본 생성자
+    }
+    
+    public WorldInfo(String name, String environment, Long size, int chunksLoaded, int players) {
+        this.name = name;
+        this.environment = environment;
+        this.size = size;
+        this.chunksLoaded = chunksLoaded;
+        this.players = players;
+    }
+    
+    // Getter 메서드들
+    public String getName() {
+        return name;
+    }
+    
+    public String getEnvironment() {
+        return environment;
+    }
+    
+    public Long getSize() {
+        return size;
+    }
+    
+    public int getChunksLoaded() {
+        return chunksLoaded;
+    }
+    
+    public int getPlayers() {
+        return players;
+    }
+    
+    // Setter 메서드들
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public void setEnvironment(String environment) {
+        this.environment = environment;
+    }
+    
+    public void setSize(Long size) {
+        this.size = size;
+    }
+    
+    public void setChunksLoaded(int chunksLoaded) {
+        this.chunksLoaded = chunksLoaded;
+    }
+    
+    public void setPlayers(int players) {
+        this.players = players;
+    }
+    
+    @Override
+    public String toString() {
+        return "WorldInfo{" +
+                "name='" + name + '\'' +
+                ", environment='" + environment + '\'' +
+                ", size=" + size +
+                ", chunksLoaded=" + chunksLoaded +
+                ", players=" + players +
+                '}';
+    }
+}
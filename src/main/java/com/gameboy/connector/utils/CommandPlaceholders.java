@@ -0,0 +1,104 @@
+package com.gameboy.connector.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 웹 명령어 대체문자 처리
+ * 같은 명령어 문자열(상점 상품 등)이 반복해서 들어오므로, 분석한 템플릿을 LRU 캐시에 보관해 두고
+ * 실행할 때는 스레드별로 재사용하는 StringBuilder에 기록합니다.
+ */
+public class CommandPlaceholders {
+
+    public static final String PLAYER = CommandTemplate.Placeholder.PLAYER.getToken(); // 요청한 플레이어명으로 바뀌는 대체문자
+
+    private static final int CACHE_SIZE = 256; // 보관할 최대 템플릿 수
+    private static final int MAX_RETAINED_BUILDER = 4096; // 이보다 커진 StringBuilder는 재사용하지 않음
+
+    private static final Map<String, CommandTemplate> CACHE = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CommandTemplate> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private CommandPlaceholders() {
+    }
+
+    /**
+     * 대체문자를 실제 값으로 변환 (<player> → 플레이어명)
+     */
+    public static String apply(String command, String playerName) {
+        return apply(command, new Context(playerName));
+    }
+
+    /**
+     * 대체문자를 실행 정보의 값으로 변환
+     */
+    public static String apply(String command, Context context) {
+        return render(template(command), context);
+    }
+
+    /**
+     * 분석된 템플릿 (캐시에 없으면 분석 후 보관)
+     */
+    public static CommandTemplate template(String command) {
+        synchronized (CACHE) {
+            CommandTemplate template = CACHE.get(command);
+            if (template == null) {
+                template = CommandTemplate.compile(command);
+                CACHE.put(command, template);
+            }
+            return template;
+        }
+    }
+
+    /**
+     * 템플릿을 명령어 문자열로 변환
+     */
+    public static String render(CommandTemplate template, Context context) {
+        if (template.isConstant()) {
+            return template.getSource();
+        }
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        template.render(context, builder);
+        String command = builder.toString();
+        if (builder.capacity() > MAX_RETAINED_BUILDER) {
+            BUILDER.remove();
+        }
+        return command;
+    }
+
+    /**
+     * 명령어 1회 실행의 대체문자 값 (설정하지 않은 값은 대체문자를 그대로 남김)
+     */
+    public static class Context {
+        private final String playerName;
+        private String playerUuid;
+        private String worldName;
+        private String serverCode;
+        private long timestamp = -1; // Unix 초, 설정하지 않으면 변환 시각
+
+        public Context(String playerName) {
+            this.playerName = playerName;
+        }
+
+        public void setPlayerUuid(String playerUuid) { this.playerUuid = playerUuid; }
+        public void setWorldName(String worldName) { this.worldName = worldName; }
+        public void setServerCode(String serverCode) { this.serverCode = serverCode; }
+        public void setTimestamp(long timestamp) { this.timestamp = timestamp; }
+
+        String resolve(CommandTemplate.Placeholder placeholder) {
+            switch (placeholder) {
+                case PLAYER: return playerName;
+                case UUID: return playerUuid;
+                case WORLD: return worldName;
+                case SERVER_CODE: return serverCode;
+                case TIMESTAMP: return Long.toString(timestamp >= 0 ? timestamp : System.currentTimeMillis() / 1000);
+                default: return null;
+            }
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.gameboy.connector.utils;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Server;
-import org.bukkit.command.CommandSender;
 import org.bukkit.command.ConsoleCommandSender;
 import org.bukkit.conversations.Conversation;
 import org.bukkit.conversations.ConversationAbandonedEvent;
@@ -11,52 +10,181 @@ import org.bukkit.permissions.PermissionAttachment;
 import org.bukkit.permissions.PermissionAttachmentInfo;
 import org.bukkit.plugin.Plugin;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
 /**
  * 명령어 실행 결과를 캡처하는 CommandSender
+ * 콘솔 권한으로 명령어를 실행하면서 보내진 메시지를 크기가 고정된 링 버퍼에 모읍니다.
+ * - 줄 수(maxLines)나 UTF-8 바이트 합계(maxBytes)를 넘으면 오래된 줄부터 버리고, 결과 앞에 생략 표시를 붙임
+ * - 캡처 객체는 Pool에서 재사용하므로 캡처 과정에서 명령어마다 새로 할당하지 않음
+ * - 바닐라 명령어(/give 등)는 서버 콘솔로 실행되어 출력이 서버 로그에만 남음 (캡처되지 않음)
  */
-public class CommandResultCapture implements CommandSender {
+public class CommandResultCapture implements ConsoleCommandSender {
     private final ConsoleCommandSender consoleSender;
-    private final List<String> messages = new ArrayList<>();
+    private final String[] lines; // 링 버퍼
+    private final int[] lineBytes;
+    private final int maxBytes;
+    private int head = 0; // 가장 오래된 줄 위치
+    private int count = 0;
+    private int bytes = 0;
+    private int dropped = 0; // 버린 줄 수
 
-    public CommandResultCapture() {
+    public CommandResultCapture(int maxLines, int maxBytes) {
         this.consoleSender = Bukkit.getConsoleSender();
+        this.lines = new String[Math.max(1, maxLines)];
+        this.lineBytes = new int[this.lines.length];
+        this.maxBytes = Math.max(1, maxBytes);
     }
 
     @Override
     public void sendMessage(String message) {
-        messages.add(message);
+        capture(message);
     }
 
     @Override
     public void sendMessage(String... messages) {
         for (String message : messages) {
-            this.messages.add(message);
+            capture(message);
         }
     }
 
     @Override
     public void sendMessage(UUID sender, String message) {
-        messages.add(message);
+        capture(message);
     }
 
     @Override
     public void sendMessage(UUID sender, String... messages) {
         for (String message : messages) {
-            this.messages.add(message);
+            capture(message);
         }
     }
 
+    @Override
+    public void sendRawMessage(String message) {
+        capture(message);
+    }
+
+    @Override
+    public void sendRawMessage(UUID sender, String message) {
+        capture(message);
+    }
+
+    /**
+     * 메시지 저장 - 여러 줄 메시지는 줄 단위로 나눠 저장
+     */
+    private void capture(String message) {
+        if (message == null) {
+            return;
+        }
+        int start = 0;
+        int newline;
+        while ((newline = message.indexOf('\n', start)) >= 0) {
+            append(message.substring(start, newline));
+            start = newline + 1;
+        }
+        append(start == 0 ? message : message.substring(start));
+    }
+
+    private void append(String line) {
+        int size = utf8Length(line);
+        if (size > maxBytes) {
+            // 한 줄이 한도보다 크면 앞부분만 저장
+            line = truncate(line, maxBytes);
+            size = utf8Length(line);
+        }
+
+        // 줄 수나 바이트 한도를 넘으면 오래된 줄부터 버림
+        while (count == lines.length || (count > 0 && bytes + size > maxBytes)) {
+            bytes -= lineBytes[head];
+            lines[head] = null;
+            head = (head + 1) % lines.length;
+            count--;
+            dropped++;
+        }
+
+        int index = (head + count) % lines.length;
+        lines[index] = line;
+        lineBytes[index] = size;
+        bytes += size;
+        count++;
+    }
+
+    /**
+     * 캡처한 줄 목록 (줄이 버려졌으면 맨 앞에 생략 표시)
+     */
     public List<String> getMessages() {
-        return new ArrayList<>(messages);
+        if (count == 0 && dropped == 0) {
+            return Collections.emptyList();
+        }
+        List<String> messages = new ArrayList<>(count + 1);
+        if (dropped > 0) {
+            messages.add("... (앞부분 " + dropped + "줄 생략)");
+        }
+        for (int i = 0; i < count; i++) {
+            messages.add(lines[(head + i) % lines.length]);
+        }
+        return messages;
     }
 
     public String getMessagesAsString() {
-        return String.join("\n", messages);
+        return String.join("\n", getMessages());
+    }
+
+    public boolean isTruncated() {
+        return dropped > 0;
+    }
+
+    /**
+     * 다음 명령어를 위해 비우기 (버퍼는 그대로 재사용)
+     */
+    public void reset() {
+        for (int i = 0; i < count; i++) {
+            lines[(head + i) % lines.length] = null;
+        }
+        head = 0;
+        count = 0;
+        bytes = 0;
+        dropped = 0;
+    }
+
+    /**
+     * 문자열의 UTF-8 바이트 수 (인코딩하지 않고 계산)
+     */
+    static int utf8Length(String text) {
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * UTF-8 기준 maxBytes 이하가 되도록 자르기 (문자 중간에서 자르지 않음)
+     */
+    private static String truncate(String text, int maxBytes) {
+        byte[] encoded = text.getBytes(StandardCharsets.UTF_8);
+        int end = maxBytes;
+        while (end > 0 && (encoded[end] & 0xC0) == 0x80) {
+            end--; // UTF-8 연속 바이트는 문자 중간
+        }
+        return new String(encoded, 0, end, StandardCharsets.UTF_8);
     }
 
     // 나머지 필수 메서드들은 콘솔에 위임
@@ -75,6 +203,31 @@ public class CommandResultCapture implements CommandSender {
         return consoleSender.spigot();
     }
 
+    @Override
+    public boolean isConversing() {
+        return false;
+    }
+
+    @Override
+    public void acceptConversationInput(String input) {
+        // no-op
+    }
+
+    @Override
+    public boolean beginConversation(Conversation conversation) {
+        return false;
+    }
+
+    @Override
+    public void abandonConversation(Conversation conversation) {
+        // no-op
+    }
+
+    @Override
+    public void abandonConversation(Conversation conversation, ConversationAbandonedEvent details) {
+        // no-op
+    }
+
     @Override
     public boolean isPermissionSet(String name) {
         return true;
@@ -139,4 +292,32 @@ public class CommandResultCapture implements CommandSender {
     public void setOp(boolean value) {
         // no-op
     }
+
+    /**
+     * 캡처 객체 풀 - 명령어마다 빌려 쓰고 반납 (명령어 안에서 다시 명령어를 실행해도 서로 섞이지 않음)
+     */
+    public static class Pool {
+        private static final int MAX_IDLE = 4; // 보관할 최대 캡처 객체 수
+
+        private final ArrayDeque<CommandResultCapture> idle = new ArrayDeque<>(MAX_IDLE);
+        private final int maxLines;
+        private final int maxBytes;
+
+        public Pool(int maxLines, int maxBytes) {
+            this.maxLines = maxLines;
+            this.maxBytes = maxBytes;
+        }
+
+        public synchronized CommandResultCapture acquire() {
+            CommandResultCapture capture = idle.pollFirst();
+            return capture != null ? capture : new CommandResultCapture(maxLines, maxBytes);
+        }
+
+        public synchronized void release(CommandResultCapture capture) {
+            capture.reset();
+            if (idle.size() < MAX_IDLE) {
+                idle.addFirst(capture);
+            }
+        }
+    }
 }
@@ -0,0 +1,119 @@
+package com.gameboy.connector.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미리 분석해 둔 웹 명령어 템플릿
+ * 명령어 문자열을 고정 문자열과 대체문자 구간으로 한 번만 나눠 두고, 실행할 때는 구간을 순서대로 이어 붙입니다.
+ * 생성 후에는 바뀌지 않으므로 여러 스레드에서 함께 사용할 수 있습니다.
+ */
+public class CommandTemplate {
+
+    /**
+     * 지원하는 대체문자
+     */
+    public enum Placeholder {
+        PLAYER("<player>"), // 요청한 플레이어명
+        UUID("<uuid>"), // 접속 중인 플레이어의 UUID
+        WORLD("<world>"), // 접속 중인 플레이어가 있는 월드
+        SERVER_CODE("<server_code>"), // 서버 코드
+        TIMESTAMP("<timestamp>"); // 실행 시각 (Unix 초)
+
+        private final String token;
+
+        Placeholder(String token) {
+            this.token = token;
+        }
+
+        public String getToken() {
+            return token;
+        }
+    }
+
+    private static final Placeholder[] PLACEHOLDERS = Placeholder.values();
+
+    private final String source;
+    private final String[] literals; // placeholders보다 항상 1개 많음 (앞, 사이, 뒤)
+    private final Placeholder[] placeholders;
+    private final int literalLength;
+
+    private CommandTemplate(String source, String[] literals, Placeholder[] placeholders) {
+        this.source = source;
+        this.literals = literals;
+        this.placeholders = placeholders;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * 명령어 문자열 분석 - 알 수 없는 <...>는 고정 문자열로 유지
+     */
+    public static CommandTemplate compile(String command) {
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        int literalStart = 0;
+        int index = command.indexOf('<');
+        while (index >= 0) {
+            Placeholder matched = match(command, index);
+            if (matched == null) {
+                index = command.indexOf('<', index + 1);
+                continue;
+            }
+            literals.add(command.substring(literalStart, index));
+            placeholders.add(matched);
+            literalStart = index + matched.token.length();
+            index = command.indexOf('<', literalStart);
+        }
+        literals.add(command.substring(literalStart));
+        return new CommandTemplate(command, literals.toArray(new String[0]), placeholders.toArray(new Placeholder[0]));
+    }
+
+    private static Placeholder match(String command, int index) {
+        for (Placeholder placeholder : PLACEHOLDERS) {
+            if (command.startsWith(placeholder.token, index)) {
+                return placeholder;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 대체문자 사용 여부 (값을 구하는 데 비용이 드는 대체문자만 필요할 때 조회하기 위함)
+     */
+    public boolean uses(Placeholder placeholder) {
+        for (Placeholder used : placeholders) {
+            if (used == placeholder) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 템플릿을 builder 끝에 기록 - 값이 없는 대체문자는 그대로 남김
+     */
+    public void render(CommandPlaceholders.Context context, StringBuilder builder) {
+        builder.ensureCapacity(builder.length() + literalLength + placeholders.length * 16);
+        builder.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = context.resolve(placeholders[i]);
+            builder.append(value != null ? value : placeholders[i].token);
+            builder.append(literals[i + 1]);
+        }
+    }
+
+    /**
+     * 대체문자가 없는 템플릿인지 (변환 결과가 원본 문자열과 같음)
+     */
+    public boolean isConstant() {
+        return placeholders.length == 0;
+    }
+
+    public String getSource() {
+        return source;
+    }
+}
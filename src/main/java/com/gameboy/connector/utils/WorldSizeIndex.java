@@ -0,0 +1,365 @@
+package com.gameboy.connector.utils;
+
+import com.gameboy.connector.metrics.ConnectorMetrics;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 월드 폴더 크기 색인
+ * 월드 폴더를 매번 전부 훑지 않고, 처음 한 번 백그라운드에서 크기를 계산해 둔 뒤 바뀐 파일만 반영합니다.
+ * - 청크 데이터가 저장되는 region/entities/poi 폴더는 파일별 크기를 기억하고 파일 변경 알림(WatchService)으로 갱신
+ * - 나머지 파일(level.dat, 플레이어 데이터 등)은 작고 드물게 바뀌므로 재검사 때만 다시 계산
+ * - 알림이 넘치거나(OVERFLOW) 놓친 변경은 재검사 간격마다 전체를 다시 훑어 바로잡음
+ * 크기 조회는 마지막 계산 값을 읽기만 하므로 어느 스레드에서 호출해도 바로 반환됩니다.
+ */
+public class WorldSizeIndex {
+
+    private static final Set<String> WATCHED_DIRECTORIES = Set.of("region", "entities", "poi"); // 변경 알림을 받는 폴더 이름
+
+    private final Logger logger;
+    private final ConnectorMetrics metrics;
+    private final long rescanInterval; // 재검사 간격 (ms)
+    private final ScheduledThreadPoolExecutor scanner;
+    private final WatchService watchService; // 변경 알림 미사용 시 null
+    private final Map<String, WorldEntry> worlds = new ConcurrentHashMap<>();
+    private final Map<WatchKey, WatchedDirectory> watchKeys = new ConcurrentHashMap<>();
+    private volatile boolean closed = false;
+
+    /**
+     * @param rescanIntervalMillis 전체 재검사 간격 (ms)
+     * @param watch                region/entities/poi 폴더 변경 알림 사용 여부 (false면 재검사 때만 갱신)
+     */
+    public WorldSizeIndex(long rescanIntervalMillis, boolean watch, Logger logger, ConnectorMetrics metrics) {
+        this.logger = logger;
+        this.metrics = metrics;
+        this.rescanInterval = Math.max(1000, rescanIntervalMillis);
+
+        this.scanner = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "GameboyConnector-WorldSize");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scanner.setRemoveOnCancelPolicy(true);
+
+        WatchService service = null;
+        if (watch) {
+            try {
+                service = FileSystems.getDefault().newWatchService();
+            } catch (IOException | UnsupportedOperationException e) {
+                logger.warning("월드 폴더 변경 알림을 사용할 수 없어 재검사 때만 월드 크기를 갱신합니다: " + e.getMessage());
+            }
+        }
+        this.watchService = service;
+        if (watchService != null) {
+            Thread watcher = new Thread(this::watchLoop, "GameboyConnector-WorldWatch");
+            watcher.setDaemon(true);
+            watcher.start();
+        }
+
+        metrics.registerGauge("world_size.worlds", worlds::size);
+        metrics.registerGauge("world_size.watched_files", () -> {
+            long files = 0;
+            for (WorldEntry entry : worlds.values()) {
+                files += entry.watchedFiles.size();
+            }
+            return files;
+        });
+        metrics.registerGauge("world_size.watched_directories", watchKeys::size);
+    }
+
+    /**
+     * 월드 크기 (바이트)
+     * 처음 조회한 월드는 백그라운드 계산을 시작하고, 첫 계산이 끝날 때까지 null을 반환합니다 (0으로 보고하지 않도록).
+     */
+    public Long getSize(String worldName, Path worldFolder) {
+        WorldEntry entry = worlds.get(worldName);
+        if (entry == null || !entry.root.equals(worldFolder)) {
+            entry = register(worldName, worldFolder);
+        }
+        return entry.scanned ? entry.total : null;
+    }
+
+    /**
+     * 목록에 없는 (언로드된) 월드 정리
+     */
+    public void retainWorlds(Collection<String> worldNames) {
+        for (WorldEntry entry : worlds.values()) {
+            if (!worldNames.contains(entry.name)) {
+                remove(entry);
+            }
+        }
+    }
+
+    /**
+     * 색인 종료 (플러그인 비활성화 시)
+     */
+    public void close() {
+        closed = true;
+        scanner.shutdownNow();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.debug("월드 폴더 변경 알림 종료 실패: " + e.getMessage());
+            }
+        }
+        watchKeys.clear();
+        worlds.clear();
+    }
+
+    private synchronized WorldEntry register(String worldName, Path worldFolder) {
+        WorldEntry entry = worlds.get(worldName);
+        if (entry != null && entry.root.equals(worldFolder)) {
+            return entry;
+        }
+        if (entry != null) {
+            remove(entry); // 같은 이름으로 다른 폴더의 월드가 로드됨
+        }
+
+        WorldEntry created = new WorldEntry(worldName, worldFolder);
+        worlds.put(worldName, created);
+        if (!closed) {
+            scanner.execute(() -> rescan(created));
+            created.periodicScan = scanner.scheduleWithFixedDelay(() -> rescan(created),
+                    rescanInterval, rescanInterval, TimeUnit.MILLISECONDS);
+        }
+        return created;
+    }
+
+    private synchronized void remove(WorldEntry entry) {
+        if (!worlds.remove(entry.name, entry)) {
+            return;
+        }
+        entry.removed = true;
+        if (entry.periodicScan != null) {
+            entry.periodicScan.cancel(false);
+        }
+        watchKeys.entrySet().removeIf(watched -> {
+            if (watched.getValue().entry != entry) {
+                return false;
+            }
+            watched.getKey().cancel();
+            return true;
+        });
+    }
+
+    /**
+     * 월드 폴더 전체 재검사 (스캐너 스레드에서 실행)
+     * 훑는 동안 들어온 변경 알림은 이전 색인에 반영되고, 재검사 결과로 바뀐 부분을 교체한 뒤 다음 알림부터 새 색인에 반영됩니다.
+     */
+    private void rescan(WorldEntry entry) {
+        entry.rescanRequested.set(false);
+        if (closed || entry.removed) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        Map<Path, Long> watchedFiles = new HashMap<>();
+        long[] otherBytes = new long[1];
+        try {
+            if (Files.isDirectory(entry.root)) {
+                // 월드 폴더가 심볼릭 링크여도 실제 폴더를 훑음 (안쪽의 링크는 따라가지 않음)
+                Files.walkFileTree(entry.root.toRealPath(), new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                        if (isWatchedDirectory(dir)) {
+                            watch(entry, dir);
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        if (!attrs.isRegularFile()) {
+                            return FileVisitResult.CONTINUE;
+                        }
+                        Path parent = file.getParent();
+                        if (parent != null && isWatchedDirectory(parent)) {
+                            watchedFiles.put(file, attrs.size());
+                        } else {
+                            otherBytes[0] += attrs.size();
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException e) {
+                        return FileVisitResult.CONTINUE; // 훑는 중에 삭제된 파일 등
+                    }
+                });
+            }
+        } catch (IOException e) {
+            logger.warning("월드 크기 계산 실패 (" + entry.name + "): " + e.getMessage());
+            return;
+        }
+
+        synchronized (entry) {
+            long watchedBytes = 0;
+            entry.watchedFiles.keySet().retainAll(watchedFiles.keySet());
+            for (Map.Entry<Path, Long> file : watchedFiles.entrySet()) {
+                entry.watchedFiles.put(file.getKey(), file.getValue());
+                watchedBytes += file.getValue();
+            }
+            entry.watchedBytes = watchedBytes;
+            entry.otherBytes = otherBytes[0];
+            entry.total = watchedBytes + otherBytes[0];
+            entry.scanned = true;
+        }
+
+        metrics.increment("world_size.rescans");
+        logger.debug("월드 크기 재계산 (" + entry.name + "): " + entry.total + " bytes, "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) + "ms");
+    }
+
+    private static boolean isWatchedDirectory(Path dir) {
+        Path name = dir.getFileName();
+        return name != null && WATCHED_DIRECTORIES.contains(name.toString());
+    }
+
+    private void watch(WorldEntry entry, Path dir) {
+        if (watchService == null || closed) {
+            return;
+        }
+        try {
+            WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+            watchKeys.putIfAbsent(key, new WatchedDirectory(entry, dir)); // 이미 등록된 폴더는 같은 키
+        } catch (ClosedWatchServiceException e) {
+            // 종료 중
+        } catch (IOException e) {
+            logger.debug("월드 폴더 변경 알림 등록 실패 (" + dir + "): " + e.getMessage());
+        }
+    }
+
+    /**
+     * 변경 알림 처리 (알림 스레드)
+     */
+    private void watchLoop() {
+        while (!closed) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            WatchedDirectory watched = watchKeys.get(key);
+            if (watched == null) {
+                key.pollEvents();
+                key.cancel();
+                continue;
+            }
+
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    metrics.increment("world_size.overflows");
+                    requestRescan(watched.entry);
+                    continue;
+                }
+                Path file = watched.dir.resolve((Path) event.context());
+                update(watched.entry, file, event.kind() == StandardWatchEventKinds.ENTRY_DELETE);
+                metrics.increment("world_size.events");
+            }
+
+            if (!key.reset()) {
+                // 폴더가 삭제됨 - 남아 있던 파일은 다음 재검사에서 정리
+                watchKeys.remove(key);
+                requestRescan(watched.entry);
+            }
+        }
+    }
+
+    /**
+     * 파일 하나의 크기 반영 - 이전 값과의 차이만큼 합계를 조정
+     * 알림 내용이 아니라 현재 파일 크기를 다시 읽으므로, 같은 파일의 알림이 여러 번 와도 결과는 같습니다.
+     */
+    private void update(WorldEntry entry, Path file, boolean deleted) {
+        long size = -1;
+        if (!deleted) {
+            try {
+                if (!Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS)) {
+                    return; // 폴더 등은 재검사에서 처리
+                }
+                size = Files.size(file);
+            } catch (NoSuchFileException e) {
+                size = -1;
+            } catch (IOException e) {
+                return;
+            }
+        }
+
+        synchronized (entry) {
+            if (entry.removed) {
+                return;
+            }
+            Long previous = size >= 0 ? entry.watchedFiles.put(file, size) : entry.watchedFiles.remove(file);
+            long delta = Math.max(size, 0) - (previous != null ? previous : 0);
+            if (delta != 0) {
+                entry.watchedBytes += delta;
+                entry.total = entry.watchedBytes + entry.otherBytes;
+            }
+        }
+    }
+
+    private void requestRescan(WorldEntry entry) {
+        if (!closed && entry.rescanRequested.compareAndSet(false, true)) {
+            scanner.execute(() -> rescan(entry));
+        }
+    }
+
+    /**
+     * 월드 하나의 크기 색인
+     */
+    private static final class WorldEntry {
+        private final String name;
+        private final Path root;
+        private final Map<Path, Long> watchedFiles = new ConcurrentHashMap<>(); // region/entities/poi 파일별 크기
+        private final AtomicBoolean rescanRequested = new AtomicBoolean();
+        private long watchedBytes = 0; // watchedFiles 합계 (entry 잠금)
+        private long otherBytes = 0; // 나머지 파일 합계 (재검사 때만 갱신)
+        private volatile long total = 0;
+        private volatile boolean scanned = false; // 첫 재검사 완료 여부 (그 전에는 크기를 모름)
+        private volatile boolean removed = false;
+        private ScheduledFuture<?> periodicScan;
+
+        WorldEntry(String name, Path root) {
+            this.name = name;
+            this.root = root;
+        }
+    }
+
+    /**
+     * 변경 알림을 받는 폴더
+     */
+    private static final class WatchedDirectory {
+        private final WorldEntry entry;
+        private final Path dir;
+
+        WatchedDirectory(WorldEntry entry, Path dir) {
+            this.entry = entry;
+            this.dir = dir;
+        }
+    }
+}